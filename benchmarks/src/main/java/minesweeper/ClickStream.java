@@ -0,0 +1,194 @@
+package minesweeper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A recorded game: the seeded board it is played on and the clicks and flags made on it.
+ * Streams are generated by playing the game once on a headless controller, so every action
+ * in a stream is one a real player could have made at that point.
+ */
+class ClickStream {
+    private static final double FLAG_CHANCE = 0.15;
+    private static final double WRONG_FLAG_CHANCE = 0.2;
+
+    private final long seed;
+    private final int height;
+    private final int width;
+    private final int difficultyLevel;
+    private final List<int[]> actions;
+
+    /**
+     * constructor
+     * @param seed the seed of the board.
+     * @param height the number of rows on the board.
+     * @param width the number of columns on the board.
+     * @param difficultyLevel the difficulty of the board.
+     * @param actions each action as {row, column, 1 if flag or 0 if click}.
+     */
+    private ClickStream(long seed, int height, int width, int difficultyLevel, List<int[]> actions) {
+        this.seed = seed;
+        this.height = height;
+        this.width = width;
+        this.difficultyLevel = difficultyLevel;
+        this.actions = actions;
+    }
+
+    /**
+     * Plays one game on a seeded board and records it. The game starts by clicking a zero square if
+     * there is one, then mixes safe clicks with flags (some of them wrong and taken back), and with
+     * the given chance ends by clicking a bomb partway through instead of winning. A game that is
+     * meant to be lost always is: if it would be won before it gets to the chosen action, the bomb is
+     * clicked instead of the winning square.
+     * @param seed the seed of the board, which also drives the choice of moves.
+     * @param height the number of rows on the board.
+     * @param width the number of columns on the board.
+     * @param difficultyLevel the difficulty of the board.
+     * @param lossChance the chance that the game ends in a loss.
+     * @return the recorded game.
+     */
+    static ClickStream generate(long seed, int height, int width, int difficultyLevel, double lossChance) {
+        Random random = new Random(~seed);
+        MineField field = new MineField(height, width, difficultyLevel, seed);
+        HeadlessDisplay display = new HeadlessDisplay(height, width);
+        MinesweeperController controller = new MinesweeperController(display);
+        controller.newGame(height, width, difficultyLevel, seed);
+
+        boolean[][] flagged = new boolean[height][width];
+        List<int[]> actions = new ArrayList<>();
+        List<int[]> zeros = new ArrayList<>();
+        for (int row = 0; row < height; row++) {
+            for (int col = 0; col < width; col++) {
+                if (!field.isBomb(row, col) && field.getNumberOfAdjacentBombs(row, col) == 0) {
+                    zeros.add(new int[] {row, col});
+                }
+            }
+        }
+        if (!zeros.isEmpty()) {
+            int[] opening = zeros.get(random.nextInt(zeros.size()));
+            controller.buttonPressed(opening[0], opening[1]);
+            actions.add(new int[] {opening[0], opening[1], 0});
+        }
+
+        int safeSquares = height * width - field.getTotalNumberOfBombs();
+        boolean loses = random.nextDouble() < lossChance;
+        int loseAfter = loses ? actions.size() + random.nextInt(Math.max(1, safeSquares / 2)) : Integer.MAX_VALUE;
+        while (!display.hasWon() && !display.hasLost()) {
+            List<int[]> safe = new ArrayList<>();
+            List<int[]> bombs = new ArrayList<>();
+            for (int row = 0; row < height; row++) {
+                for (int col = 0; col < width; col++) {
+                    if (display.isRevealed(row, col) || flagged[row][col]) {
+                        continue;
+                    }
+                    (field.isBomb(row, col) ? bombs : safe).add(new int[] {row, col});
+                }
+            }
+            if (safe.isEmpty()) {
+                break;
+            }
+            int[] square = safe.get(random.nextInt(safe.size()));
+            boolean flag = random.nextDouble() < FLAG_CHANCE && bombs.size() > (loses ? 1 : 0);
+            boolean lastChance = loses && !flag && wouldWin(field, display, safeSquares, square[0], square[1]);
+            if ((actions.size() >= loseAfter || lastChance) && !bombs.isEmpty()) {
+                square = bombs.get(random.nextInt(bombs.size()));
+                controller.buttonPressed(square[0], square[1]);
+                actions.add(new int[] {square[0], square[1], 0});
+            } else if (flag) {
+                if (random.nextDouble() < WRONG_FLAG_CHANCE) {
+                    controller.flagButton(square[0], square[1]);
+                    controller.flagButton(square[0], square[1]);
+                    actions.add(new int[] {square[0], square[1], 1});
+                } else {
+                    square = bombs.get(random.nextInt(bombs.size()));
+                    controller.flagButton(square[0], square[1]);
+                    flagged[square[0]][square[1]] = true;
+                }
+                actions.add(new int[] {square[0], square[1], 1});
+            } else {
+                controller.buttonPressed(square[0], square[1]);
+                actions.add(new int[] {square[0], square[1], 0});
+            }
+        }
+        return new ClickStream(seed, height, width, difficultyLevel, actions);
+    }
+
+    /**
+     * Helper that checks whether clicking a safe square would win the game, by counting the squares
+     * the click would reveal: the square itself and, through every zero, the squares around it.
+     * @param field the board being played.
+     * @param display the display showing which squares are revealed so far.
+     * @param safeSquares the number of squares on the board that are not bombs.
+     * @param row the row of the square.
+     * @param column the column of the square.
+     * @return true if the click would reveal every safe square left; false otherwise
+     */
+    private static boolean wouldWin(MineField field, HeadlessDisplay display, int safeSquares, int row, int column) {
+        int width = field.getWidth();
+        Topology topology = field.getTopology();
+        boolean[] reached = new boolean[field.getHeight() * width];
+        int[] pending = new int[reached.length];
+        int pendingCount = 0;
+        pending[pendingCount++] = row * width + column;
+        reached[row * width + column] = true;
+        int revealed = display.getRevealedCount();
+        while (pendingCount > 0) {
+            int square = pending[--pendingCount];
+            int r = square / width;
+            int c = square % width;
+            revealed++;
+            if (field.getNumberOfAdjacentBombs(r, c) != 0) {
+                continue;
+            }
+            for (int k = topology.firstNeighbor(r, c); k < topology.endNeighbor(r, c); k++) {
+                int neighbor = topology.neighborRow(k) * width + topology.neighborColumn(k);
+                if (!reached[neighbor] && !display.isRevealed(topology.neighborRow(k), topology.neighborColumn(k))) {
+                    reached[neighbor] = true;
+                    pending[pendingCount++] = neighbor;
+                }
+            }
+        }
+        return revealed >= safeSquares;
+    }
+
+    /**
+     * gets the seed of the board
+     * @return the seed
+     */
+    long getSeed() {
+        return seed;
+    }
+
+    /**
+     * gets the number of rows on the board
+     * @return number of rows
+     */
+    int getHeight() {
+        return height;
+    }
+
+    /**
+     * gets the number of columns on the board
+     * @return number of columns
+     */
+    int getWidth() {
+        return width;
+    }
+
+    /**
+     * gets the difficulty of the board
+     * @return 0 for easy, 1 for medium, 2 for hard
+     */
+    int getDifficultyLevel() {
+        return difficultyLevel;
+    }
+
+    /**
+     * gets the actions of the game in order
+     * @return each action as {row, column, 1 if flag or 0 if click}
+     */
+    List<int[]> getActions() {
+        return actions;
+    }
+}
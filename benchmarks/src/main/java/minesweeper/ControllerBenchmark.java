@@ -0,0 +1,114 @@
+package minesweeper;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks a full cascade through MinesweeperController.buttonPressed. The board and the zero
+ * square to click are picked once per trial as the biggest opening among a fixed set of seeds, and
+ * the board is built once. Each cascade invocation first hides every square again in place, so it
+ * does the whole cascade without rebuilding the board; the reset benchmark times that reset on its
+ * own, so the cost of the cascade is the difference between the two.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ControllerBenchmark {
+    private static final int SEEDS_TO_SEARCH = 20;
+
+    @Param({"15x20", "30x40", "60x80"})
+    private String size;
+
+    private int height;
+    private int width;
+    private long seed;
+    private int row;
+    private int column;
+    private MinesweeperController controller;
+
+    /**
+     * Finds the seed and zero square that give the biggest cascade on an easy board.
+     */
+    @Setup(Level.Trial)
+    public void findLargestOpening() {
+        String[] dimensions = size.split("x");
+        height = Integer.parseInt(dimensions[0]);
+        width = Integer.parseInt(dimensions[1]);
+        RevealCountingDisplay counter = new RevealCountingDisplay();
+        MinesweeperController searcher = new MinesweeperController(counter);
+
+        int mostRevealed = -1;
+        for (long candidate = 0; candidate < SEEDS_TO_SEARCH; candidate++) {
+            MineField field = new MineField(height, width, 0, candidate);
+            searcher.newGame(height, width, 0, candidate);
+            counter.shown = new boolean[height][width];
+            for (int r = 0; r < height; r++) {
+                for (int c = 0; c < width; c++) {
+                    if (field.isBomb(r, c) || field.getNumberOfAdjacentBombs(r, c) != 0 || counter.shown[r][c]) {
+                        continue;
+                    }
+                    counter.revealed = 0;
+                    searcher.buttonPressed(r, c);
+                    if (counter.revealed > mostRevealed) {
+                        mostRevealed = counter.revealed;
+                        seed = candidate;
+                        row = r;
+                        column = c;
+                    }
+                }
+            }
+        }
+        controller = new MinesweeperController(new NoOpDisplay());
+        controller.newGame(height, width, 0, seed);
+    }
+
+    /**
+     * Hides every square of the board again, the baseline to subtract from cascade.
+     * @return the controller.
+     */
+    @Benchmark
+    public MinesweeperController reset() {
+        controller.restartGame();
+        return controller;
+    }
+
+    /**
+     * Hides every square again, then clicks the zero square, revealing the whole opening around it.
+     * @return the controller.
+     */
+    @Benchmark
+    public MinesweeperController cascade() {
+        controller.restartGame();
+        controller.buttonPressed(row, column);
+        return controller;
+    }
+
+    /**
+     * Display that remembers which squares have been revealed and counts how many since it was last reset.
+     */
+    private static class RevealCountingDisplay extends NoOpDisplay {
+        private boolean[][] shown;
+        private int revealed;
+
+        @Override
+        public void displayNumberOfAdjacentBombs(int row, int column, int numAdjacent) {
+            shown[row][column] = true;
+            revealed++;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package minesweeper;
+
+/**
+ * Display with no screen behind it. It remembers which squares have been revealed and whether the
+ * game was won or lost, so tools that drive the controller can see what happened.
+ */
+class HeadlessDisplay implements MinesweeperDisplay {
+    private boolean[][] revealed;
+    private int revealedCount;
+    private boolean won;
+    private boolean lost;
+
+    /**
+     * constructor
+     * @param height the number of rows on the board.
+     * @param width the number of columns on the board.
+     */
+    HeadlessDisplay(int height, int width) {
+        this.revealed = new boolean[height][width];
+    }
+
+    @Override
+    public void youWin() {
+        won = true;
+    }
+
+    @Override
+    public void youLose() {
+        lost = true;
+    }
+
+    @Override
+    public void displayNumberOfAdjacentBombs(int row, int column, int numAdjacent) {
+        revealed[row][column] = true;
+        revealedCount++;
+    }
+
+    @Override
+    public void setUnflagged(int row, int column) {
+    }
+
+    @Override
+    public void flagButton(int row, int column) {
+    }
+
+    @Override
+    public void resetGrid() {
+        revealed = new boolean[revealed.length][revealed[0].length];
+        revealedCount = 0;
+        won = false;
+        lost = false;
+    }
+
+    /**
+     * checks if a square has been revealed
+     * @param row the row of the square.
+     * @param column the column of the square.
+     * @return true if revealed; false otherwise
+     */
+    boolean isRevealed(int row, int column) {
+        return revealed[row][column];
+    }
+
+    /**
+     * gets how many squares have been revealed since the last reset
+     * @return number of revealed squares
+     */
+    int getRevealedCount() {
+        return revealedCount;
+    }
+
+    /**
+     * checks if the game has been won
+     * @return true if won; false otherwise
+     */
+    boolean hasWon() {
+        return won;
+    }
+
+    /**
+     * checks if the game has been lost
+     * @return true if lost; false otherwise
+     */
+    boolean hasLost() {
+        return lost;
+    }
+}
@@ -0,0 +1,287 @@
+package minesweeper;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * End-to-end load harness. It generates realistic click and flag streams from seeded boards, replays
+ * them through MinesweeperController against a headless display, and times every action. Latency
+ * percentiles are printed as a table and written as JSON, so runs can be compared, along with the
+ * largest cascade by squares revealed and the cascade that took longest per square revealed. A single
+ * slow click can just be a GC or JIT pause, so cascades are judged by size and by time per square.
+ *
+ * Options (all optional): --games N, --warmup N, --size HxW, --difficulty D, --seed S,
+ * --loss-chance P, --out FILE
+ */
+public class LoadHarness {
+    private static final long HIGHEST_TRACKABLE_NANOS = 60_000_000_000L;
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private int games = 2000;
+    private int warmupGames = 500;
+    private int height = 30;
+    private int width = 40;
+    private int difficultyLevel = 0;
+    private long seed = 257;
+    private double lossChance = 0.3;
+    private String outputFile = "load-result.json";
+
+    private final Histogram clickLatency = new Histogram(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+    private final Histogram flagLatency = new Histogram(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+    private final Histogram allLatency = new Histogram(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+    private int wins;
+    private int losses;
+    private final Cascade largestCascade = new Cascade();
+    private final Cascade slowestCascade = new Cascade();
+
+    public static void main(String[] args) throws IOException {
+        LoadHarness harness = new LoadHarness();
+        harness.parseArgs(args);
+        harness.run();
+        harness.printTable();
+        harness.writeJson();
+    }
+
+    /**
+     * Reads the command line options.
+     * @param args the command line arguments.
+     */
+    private void parseArgs(String[] args) {
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--games":
+                    games = Integer.parseInt(value);
+                    break;
+                case "--warmup":
+                    warmupGames = Integer.parseInt(value);
+                    break;
+                case "--size":
+                    String[] dimensions = value.split("x");
+                    height = Integer.parseInt(dimensions[0]);
+                    width = Integer.parseInt(dimensions[1]);
+                    break;
+                case "--difficulty":
+                    difficultyLevel = Integer.parseInt(value);
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(value);
+                    break;
+                case "--loss-chance":
+                    lossChance = Double.parseDouble(value);
+                    break;
+                case "--out":
+                    outputFile = value;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+    }
+
+    /**
+     * Generates every stream up front so generation is not timed, replays the warmup streams
+     * without recording, then replays and records the rest.
+     */
+    private void run() {
+        List<ClickStream> streams = new ArrayList<>();
+        for (int i = 0; i < warmupGames + games; i++) {
+            streams.add(ClickStream.generate(seed + i, height, width, difficultyLevel, lossChance));
+        }
+
+        HeadlessDisplay display = new HeadlessDisplay(height, width);
+        MinesweeperController controller = new MinesweeperController(display);
+        for (int i = 0; i < streams.size(); i++) {
+            replay(streams.get(i), controller, display, i >= warmupGames);
+        }
+    }
+
+    /**
+     * Replays one stream through the controller.
+     * @param stream the recorded game.
+     * @param controller the controller to drive.
+     * @param display the display the controller draws on.
+     * @param record true to record latencies; false for warmup.
+     */
+    private void replay(ClickStream stream, MinesweeperController controller, HeadlessDisplay display, boolean record) {
+        controller.newGame(stream.getHeight(), stream.getWidth(), stream.getDifficultyLevel(), stream.getSeed());
+        for (int[] action : stream.getActions()) {
+            int row = action[0];
+            int column = action[1];
+            boolean isFlag = action[2] == 1;
+            int revealedBefore = display.getRevealedCount();
+
+            long start = System.nanoTime();
+            if (isFlag) {
+                controller.flagButton(row, column);
+            } else {
+                controller.buttonPressed(row, column);
+            }
+            long elapsed = System.nanoTime() - start;
+
+            if (!record) {
+                continue;
+            }
+            allLatency.recordValue(elapsed);
+            if (isFlag) {
+                flagLatency.recordValue(elapsed);
+            } else {
+                clickLatency.recordValue(elapsed);
+                int squares = display.getRevealedCount() - revealedBefore;
+                if (squares > 1) {
+                    if (squares > largestCascade.squares
+                            || (squares == largestCascade.squares && elapsed > largestCascade.nanos)) {
+                        largestCascade.set(squares, elapsed, stream.getSeed(), row, column);
+                    }
+                    if (slowestCascade.squares == 0 || elapsed * slowestCascade.squares > slowestCascade.nanos * squares) {
+                        slowestCascade.set(squares, elapsed, stream.getSeed(), row, column);
+                    }
+                }
+            }
+        }
+        if (record && display.hasWon()) {
+            wins++;
+        } else if (record && display.hasLost()) {
+            losses++;
+        }
+    }
+
+    /**
+     * Prints the latency percentiles and the cascades as a table.
+     */
+    private void printTable() {
+        System.out.printf(Locale.ROOT, "%d games on %dx%d boards, difficulty %d: %d won, %d lost%n",
+                games, height, width, difficultyLevel, wins, losses);
+        System.out.printf(Locale.ROOT, "%-8s %10s %12s %12s %12s %12s%n",
+                "action", "count", "p50 (us)", "p99 (us)", "p99.9 (us)", "max (us)");
+        printRow("click", clickLatency);
+        printRow("flag", flagLatency);
+        printRow("all", allLatency);
+        printCascade("largest cascade", largestCascade);
+        printCascade("slowest cascade per square", slowestCascade);
+    }
+
+    /**
+     * Prints one cascade under the table.
+     * @param label what the cascade is.
+     * @param cascade the cascade.
+     */
+    private void printCascade(String label, Cascade cascade) {
+        if (cascade.squares > 0) {
+            System.out.printf(Locale.ROOT, "%s: %d squares in %.1f us, %.2f us per square (seed %d, row %d, column %d)%n",
+                    label, cascade.squares, micros(cascade.nanos), cascade.microsPerSquare(),
+                    cascade.seed, cascade.row, cascade.column);
+        }
+    }
+
+    /**
+     * Prints one row of the table.
+     * @param action the name of the action.
+     * @param histogram the latencies of the action.
+     */
+    private void printRow(String action, Histogram histogram) {
+        System.out.printf(Locale.ROOT, "%-8s %10d %12.1f %12.1f %12.1f %12.1f%n",
+                action, histogram.getTotalCount(),
+                micros(histogram.getValueAtPercentile(50)),
+                micros(histogram.getValueAtPercentile(99)),
+                micros(histogram.getValueAtPercentile(99.9)),
+                micros(histogram.getMaxValue()));
+    }
+
+    /**
+     * Writes the configuration, the percentiles and the cascades as JSON.
+     * @throws IOException if the file cannot be written.
+     */
+    private void writeJson() throws IOException {
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(Paths.get(outputFile), StandardCharsets.UTF_8))) {
+            out.println("{");
+            out.printf(Locale.ROOT, "  \"games\": %d, \"height\": %d, \"width\": %d, \"difficulty\": %d, \"seed\": %d,%n",
+                    games, height, width, difficultyLevel, seed);
+            out.printf(Locale.ROOT, "  \"lossChance\": %s, \"wins\": %d, \"losses\": %d,%n", lossChance, wins, losses);
+            out.println("  \"latencyMicros\": {");
+            out.println("    " + jsonRow("click", clickLatency) + ",");
+            out.println("    " + jsonRow("flag", flagLatency) + ",");
+            out.println("    " + jsonRow("all", allLatency));
+            out.println("  },");
+            out.println("  \"largestCascade\": " + largestCascade.toJson() + ",");
+            out.println("  \"slowestCascadePerSquare\": " + slowestCascade.toJson());
+            out.println("}");
+        }
+        System.out.println("results written to " + outputFile);
+    }
+
+    /**
+     * Formats the percentiles of one action as a JSON member.
+     * @param action the name of the action.
+     * @param histogram the latencies of the action.
+     * @return the JSON member.
+     */
+    private String jsonRow(String action, Histogram histogram) {
+        return String.format(Locale.ROOT, "\"%s\": {\"count\": %d, \"p50\": %.1f, \"p99\": %.1f, \"p999\": %.1f, \"max\": %.1f}",
+                action, histogram.getTotalCount(),
+                micros(histogram.getValueAtPercentile(50)),
+                micros(histogram.getValueAtPercentile(99)),
+                micros(histogram.getValueAtPercentile(99.9)),
+                micros(histogram.getMaxValue()));
+    }
+
+    /**
+     * Converts nanoseconds to microseconds.
+     * @param nanos a time in nanoseconds.
+     * @return the time in microseconds.
+     */
+    private static double micros(long nanos) {
+        return nanos / 1000.0;
+    }
+
+    /**
+     * A click that revealed more than one square, and how long it took.
+     */
+    private static class Cascade {
+        private int squares;
+        private long nanos;
+        private long seed;
+        private int row;
+        private int column;
+
+        /**
+         * Replaces the cascade with another one.
+         * @param newSquares number of squares revealed.
+         * @param newNanos how long the click took.
+         * @param newSeed the seed of the board.
+         * @param newRow the row clicked.
+         * @param newColumn the column clicked.
+         */
+        void set(int newSquares, long newNanos, long newSeed, int newRow, int newColumn) {
+            squares = newSquares;
+            nanos = newNanos;
+            seed = newSeed;
+            row = newRow;
+            column = newColumn;
+        }
+
+        /**
+         * @return time per revealed square, in microseconds.
+         */
+        double microsPerSquare() {
+            return squares == 0 ? 0 : micros(nanos) / squares;
+        }
+
+        /**
+         * @return the cascade as a JSON object.
+         */
+        String toJson() {
+            return String.format(Locale.ROOT,
+                    "{\"squares\": %d, \"micros\": %.1f, \"microsPerSquare\": %.3f, \"seed\": %d, \"row\": %d, \"column\": %d}",
+                    squares, micros(nanos), microsPerSquare(), seed, row, column);
+        }
+    }
+}
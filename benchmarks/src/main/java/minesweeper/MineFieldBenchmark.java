@@ -0,0 +1,90 @@
+package minesweeper;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the hot paths of the MineField model, over several board sizes and difficulties,
+ * with and without the edges of the board wrapping around.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MineFieldBenchmark {
+    private static final long SEED = 257;
+
+    @Param({"15x20", "30x40", "60x80"})
+    private String size;
+
+    @Param({"0", "1", "2"})
+    private int difficultyLevel;
+
+    @Param({"false", "true"})
+    private boolean wrapAround;
+
+    private int height;
+    private int width;
+    private MineField field;
+
+    /**
+     * Builds the field that the non-construction benchmarks work on.
+     */
+    @Setup
+    public void setUp() {
+        String[] dimensions = size.split("x");
+        height = Integer.parseInt(dimensions[0]);
+        width = Integer.parseInt(dimensions[1]);
+        field = new MineField(height, width, difficultyLevel, SEED, wrapAround);
+    }
+
+    /**
+     * Plants bombs and counts adjacent bombs for a whole new field.
+     * @return the new field.
+     */
+    @Benchmark
+    public MineField construct() {
+        return new MineField(height, width, difficultyLevel, SEED, wrapAround);
+    }
+
+    /**
+     * Recounts the adjacent bombs for every cubicle in the field.
+     * @return the field.
+     */
+    @Benchmark
+    public MineField setNumberOfAdjacentBombsForEachCubicleInGrid() {
+        field.setNumberOfAdjacentBombsForEachCubicleInGrid();
+        return field;
+    }
+
+    /**
+     * Checks the winning conditions on a field nobody has clicked on yet.
+     * @return whether the user has won.
+     */
+    @Benchmark
+    public boolean hasUserWon() {
+        return field.hasUserWon();
+    }
+
+    /**
+     * Counts every bomb in the field.
+     * @return the number of bombs.
+     */
+    @Benchmark
+    public int getTotalNumberOfBombs() {
+        return field.getTotalNumberOfBombs();
+    }
+}
@@ -0,0 +1,31 @@
+package minesweeper;
+
+/**
+ * Display that ignores everything, so benchmarks measure only the controller and model.
+ */
+class NoOpDisplay implements MinesweeperDisplay {
+
+    @Override
+    public void youWin() {
+    }
+
+    @Override
+    public void youLose() {
+    }
+
+    @Override
+    public void displayNumberOfAdjacentBombs(int row, int column, int numAdjacent) {
+    }
+
+    @Override
+    public void setUnflagged(int row, int column) {
+    }
+
+    @Override
+    public void flagButton(int row, int column) {
+    }
+
+    @Override
+    public void resetGrid() {
+    }
+}
@@ -0,0 +1,24 @@
+package minesweeper;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event covering the planting of bombs and counting of adjacent bombs for a new minefield.
+ */
+@Name("minesweeper.BoardGeneration")
+@Label("Board Generation")
+@Category("Minesweeper")
+@Description("Generation of a new minefield")
+class BoardGenerationEvent extends jdk.jfr.Event {
+    @Label("Height")
+    int height;
+
+    @Label("Width")
+    int width;
+
+    @Label("Difficulty Level")
+    int difficultyLevel;
+}
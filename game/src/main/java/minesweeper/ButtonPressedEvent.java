@@ -0,0 +1,27 @@
+package minesweeper;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event covering one click on the board, including any cascade it sets off.
+ */
+@Name("minesweeper.ButtonPressed")
+@Label("Button Pressed")
+@Category("Minesweeper")
+@Description("A click on a square, including the cascade it opens up")
+class ButtonPressedEvent extends jdk.jfr.Event {
+    @Label("Row")
+    int row;
+
+    @Label("Column")
+    int column;
+
+    @Label("Squares Revealed")
+    int squaresRevealed;
+
+    @Label("Hit Bomb")
+    boolean hitBomb;
+}
@@ -1,3 +1,5 @@
+package minesweeper;
+
 /**
  * Cubicle object in Model for minesweeper
  * @author Alejandro Gallardo
@@ -82,5 +84,12 @@ public class Cubicle{
     void setAsRevealed(){
         this.isRevealed = true;
     }
-}
 
+    /**
+     * mutator method that hides the cubicle again and takes off any flag, keeping its bomb and count
+     */
+    void clearPlay(){
+        this.hasFlag = false;
+        this.isRevealed = false;
+    }
+}
@@ -0,0 +1,229 @@
+package minesweeper;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Counters and timers for game actions, shared by every game in the JVM. Recording is a few adds on
+ * striped counters, so it stays on. The game front ends publish the metrics over JMX as
+ * minesweeper:type=GameMetrics by calling register(); nothing else starts threads or touches JMX,
+ * so building boards in tests, benchmarks or tournaments stays cheap.
+ */
+public class GameMetrics implements GameMetricsMBean {
+    private static final long RATE_WINDOW_MILLIS = 1000;
+    private static final GameMetrics INSTANCE = new GameMetrics();
+
+    private final LongAdder reveals = new LongAdder();
+    private final LongAdder cascades = new LongAdder();
+    private final LongAdder cascadeSquares = new LongAdder();
+    private final AtomicLong largestCascade = new AtomicLong();
+    private final LongAdder winChecks = new LongAdder();
+    private final LongAdder winCheckNanos = new LongAdder();
+    private final LongAdder boardsGenerated = new LongAdder();
+    private final LongAdder boardGenerationNanos = new LongAdder();
+    private final LongAdder viewUpdates = new LongAdder();
+    private final LongAdder viewUpdateNanos = new LongAdder();
+    private final LongAdder hibernations = new LongAdder();
+    private final LongAdder hibernatedBytesSaved = new LongAdder();
+    private long lastRateTime = System.nanoTime();
+    private long lastRateReveals;
+    private double revealsPerSecond;
+    private boolean registered;
+
+    /**
+     * constructor
+     */
+    private GameMetrics() {
+    }
+
+    /**
+     * Gets the metrics shared by every game.
+     * @return the metrics.
+     */
+    public static GameMetrics get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Publishes the metrics over JMX, the first time it is called.
+     */
+    public static synchronized void register() {
+        if (INSTANCE.registered) {
+            return;
+        }
+        INSTANCE.registered = true;
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(INSTANCE, new ObjectName("minesweeper:type=GameMetrics"));
+        } catch (JMException e) {
+            System.err.println("Could not register game metrics with JMX: " + e);
+        }
+    }
+
+    /**
+     * Records that one square was revealed.
+     */
+    void recordReveal() {
+        reveals.increment();
+    }
+
+    /**
+     * Records a cascade.
+     * @param squares number of squares the cascade revealed.
+     */
+    void recordCascade(int squares) {
+        cascades.increment();
+        cascadeSquares.add(squares);
+        largestCascade.accumulateAndGet(squares, Math::max);
+    }
+
+    /**
+     * Records a check of the winning conditions.
+     * @param nanos how long the check took.
+     */
+    void recordWinCheck(long nanos) {
+        winChecks.increment();
+        winCheckNanos.add(nanos);
+    }
+
+    /**
+     * Records the generation of a minefield.
+     * @param nanos how long generating took.
+     */
+    void recordBoardGeneration(long nanos) {
+        boardsGenerated.increment();
+        boardGenerationNanos.add(nanos);
+    }
+
+    /**
+     * Records an update sent to the view.
+     * @param nanos how long the view took.
+     */
+    void recordViewUpdate(long nanos) {
+        viewUpdates.increment();
+        viewUpdateNanos.add(nanos);
+    }
+
+    /**
+     * Records an idle game being hibernated.
+     * @param bytesSaved estimated heap saved by hibernating it.
+     */
+    void recordHibernation(long bytesSaved) {
+        hibernations.increment();
+        hibernatedBytesSaved.add(bytesSaved);
+    }
+
+    @Override
+    public long getReveals() {
+        return reveals.sum();
+    }
+
+    /**
+     * Gets the reveal rate over the last window, which closes at the first read at least
+     * RATE_WINDOW_MILLIS after the previous one closed. Reads inside a window all get the same figure
+     * and do not move the window, however many clients are reading.
+     * @return reveals per second over the last window; 0 before the first window closes.
+     */
+    @Override
+    public synchronized double getRevealsPerSecond() {
+        long now = System.nanoTime();
+        if (now - lastRateTime >= RATE_WINDOW_MILLIS * 1_000_000) {
+            long total = reveals.sum();
+            revealsPerSecond = (total - lastRateReveals) * 1e9 / (now - lastRateTime);
+            lastRateTime = now;
+            lastRateReveals = total;
+        }
+        return revealsPerSecond;
+    }
+
+    @Override
+    public long getCascades() {
+        return cascades.sum();
+    }
+
+    @Override
+    public double getAverageCascadeSize() {
+        return average(cascadeSquares.sum(), cascades.sum());
+    }
+
+    @Override
+    public long getLargestCascade() {
+        return largestCascade.get();
+    }
+
+    @Override
+    public long getWinChecks() {
+        return winChecks.sum();
+    }
+
+    @Override
+    public double getAverageWinCheckMicros() {
+        return average(winCheckNanos.sum(), winChecks.sum()) / 1000;
+    }
+
+    @Override
+    public long getBoardsGenerated() {
+        return boardsGenerated.sum();
+    }
+
+    @Override
+    public double getAverageBoardGenerationMicros() {
+        return average(boardGenerationNanos.sum(), boardsGenerated.sum()) / 1000;
+    }
+
+    @Override
+    public long getViewUpdates() {
+        return viewUpdates.sum();
+    }
+
+    @Override
+    public double getAverageViewUpdateMicros() {
+        return average(viewUpdateNanos.sum(), viewUpdates.sum()) / 1000;
+    }
+
+    @Override
+    public long getHibernations() {
+        return hibernations.sum();
+    }
+
+    @Override
+    public long getHibernatedBytesSaved() {
+        return hibernatedBytesSaved.sum();
+    }
+
+    @Override
+    public double getAverageHibernatedBytesSaved() {
+        return average(hibernatedBytesSaved.sum(), hibernations.sum());
+    }
+
+    @Override
+    public synchronized void reset() {
+        reveals.reset();
+        cascades.reset();
+        cascadeSquares.reset();
+        largestCascade.set(0);
+        winChecks.reset();
+        winCheckNanos.reset();
+        boardsGenerated.reset();
+        boardGenerationNanos.reset();
+        viewUpdates.reset();
+        viewUpdateNanos.reset();
+        hibernations.reset();
+        hibernatedBytesSaved.reset();
+        lastRateTime = System.nanoTime();
+        lastRateReveals = 0;
+        revealsPerSecond = 0;
+    }
+
+    /**
+     * Helper function that divides a total by a count, treating an empty count as zero.
+     * @param total the total.
+     * @param count the count.
+     * @return the average.
+     */
+    private static double average(long total, long count) {
+        return count == 0 ? 0 : (double) total / count;
+    }
+}
@@ -0,0 +1,82 @@
+package minesweeper;
+
+/**
+ * Management interface for the game's runtime metrics, as shown in JConsole or any other JMX client.
+ */
+public interface GameMetricsMBean {
+
+    /**
+     * @return total number of squares revealed.
+     */
+    long getReveals();
+
+    /**
+     * @return squares revealed per second over the last sampling window, which is at least a second long.
+     */
+    double getRevealsPerSecond();
+
+    /**
+     * @return number of clicks on a zero that opened up the squares around it.
+     */
+    long getCascades();
+
+    /**
+     * @return average number of squares revealed by a cascade.
+     */
+    double getAverageCascadeSize();
+
+    /**
+     * @return most squares revealed by a single cascade.
+     */
+    long getLargestCascade();
+
+    /**
+     * @return number of times the winning conditions were checked.
+     */
+    long getWinChecks();
+
+    /**
+     * @return average time to check the winning conditions, in microseconds.
+     */
+    double getAverageWinCheckMicros();
+
+    /**
+     * @return number of minefields generated.
+     */
+    long getBoardsGenerated();
+
+    /**
+     * @return average time to generate a minefield, in microseconds.
+     */
+    double getAverageBoardGenerationMicros();
+
+    /**
+     * @return number of updates sent to the view.
+     */
+    long getViewUpdates();
+
+    /**
+     * @return average time the view took for an update, in microseconds.
+     */
+    double getAverageViewUpdateMicros();
+
+    /**
+     * @return number of idle games hibernated.
+     */
+    long getHibernations();
+
+    /**
+     * @return estimated heap saved by hibernating idle games, in bytes, added up over every hibernation.
+     */
+    long getHibernatedBytesSaved();
+
+    /**
+     * @return estimated heap saved per hibernated game, in bytes.
+     */
+    double getAverageHibernatedBytesSaved();
+
+    /**
+     * Sets every metric back to zero.
+     */
+    void reset();
+}
@@ -0,0 +1,120 @@
+package minesweeper;
+
+import java.nio.ByteBuffer;
+
+/**
+ * One finished game as kept in the statistics file. Records are a fixed size so any record can be
+ * found from its position alone.
+ */
+public final class GameRecord {
+    static final int BYTES = 40;
+
+    private final long finishedAt;
+    private final long seed;
+    private final long durationMillis;
+    private final int clicks;
+    private final int height;
+    private final int width;
+    private final int difficultyLevel;
+    private final boolean won;
+
+    /**
+     * constructor
+     * @param finishedAt when the game ended, in milliseconds since the epoch.
+     * @param seed the seed of the board.
+     * @param durationMillis how long the game took, from the first click or flag.
+     * @param clicks number of clicks and flags the user made.
+     * @param height number of rows on the board.
+     * @param width number of columns on the board.
+     * @param difficultyLevel 0 for easy, 1 for medium, 2 for hard.
+     * @param won true if the user won; false if they lost.
+     */
+    public GameRecord(long finishedAt, long seed, long durationMillis, int clicks, int height, int width,
+                      int difficultyLevel, boolean won) {
+        this.finishedAt = finishedAt;
+        this.seed = seed;
+        this.durationMillis = durationMillis;
+        this.clicks = clicks;
+        this.height = height;
+        this.width = width;
+        this.difficultyLevel = difficultyLevel;
+        this.won = won;
+    }
+
+    /**
+     * Reads a record.
+     * @param buffer buffer holding the record.
+     * @param offset where the record starts in the buffer.
+     * @return the record.
+     */
+    static GameRecord read(ByteBuffer buffer, int offset) {
+        return new GameRecord(buffer.getLong(offset), buffer.getLong(offset + 8), buffer.getLong(offset + 16),
+                buffer.getInt(offset + 24), buffer.getInt(offset + 28), buffer.getInt(offset + 32),
+                buffer.get(offset + 36), buffer.get(offset + 37) != 0);
+    }
+
+    /**
+     * Writes the record at the buffer's position, moving the position past it.
+     * @param buffer buffer to write to.
+     */
+    void write(ByteBuffer buffer) {
+        buffer.putLong(finishedAt).putLong(seed).putLong(durationMillis).putInt(clicks).putInt(height).putInt(width)
+                .put((byte) difficultyLevel).put((byte) (won ? 1 : 0)).putShort((short) 0);
+    }
+
+    /**
+     * @return when the game ended, in milliseconds since the epoch.
+     */
+    public long getFinishedAt() {
+        return finishedAt;
+    }
+
+    /**
+     * @return the seed of the board.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return how long the game took from the first click or flag, in milliseconds.
+     */
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    /**
+     * @return number of clicks and flags the user made.
+     */
+    public int getClicks() {
+        return clicks;
+    }
+
+    /**
+     * @return number of rows on the board.
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * @return number of columns on the board.
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * @return 0 for easy, 1 for medium, 2 for hard.
+     */
+    public int getDifficultyLevel() {
+        return difficultyLevel;
+    }
+
+    /**
+     * @return true if the user won; false if they lost.
+     */
+    public boolean isWon() {
+        return won;
+    }
+}
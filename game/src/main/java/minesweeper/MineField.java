@@ -0,0 +1,490 @@
+package minesweeper;
+
+/**
+ * MineField object in Model for minesweeper
+ * @author Alejandro Gallardo
+ * @author Kate Grossman
+ * @author Alex Battiste
+ * June 2019
+ */
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Random;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+public class MineField{
+    //rough per-object heap costs used to report how much hibernating a game saves
+    private static final int OBJECT_HEADER_BYTES = 16;
+    private static final int REFERENCE_BYTES = 4;
+    private static final int CUBICLE_BYTES = 24;
+
+    private Cubicle[][] gridField;
+    private int height;
+    private int width;
+    private int desiredNumberOfBombsInField;
+    private boolean hasLost;
+    private long seed;
+    private int difficultyLevel;
+    private final Topology topology;
+    private byte[] hibernatedState;
+
+    /**
+     * constructor
+     */
+    public MineField(){
+        this(0);
+    }
+
+    /**
+     * constructor
+     * @param difficultyLevel 0 for easy, 1 for medium, 2 for hard
+     */
+    public MineField(int difficultyLevel){
+        this(difficultyLevel, new Random().nextLong());
+    }
+
+    /**
+     * constructor that plants bombs from a given seed, so the same seed always gives the same field
+     * @param difficultyLevel 0 for easy, 1 for medium, 2 for hard
+     * @param seed seed for the random bomb placement
+     */
+    public MineField(int difficultyLevel, long seed){
+        this(15, 20, difficultyLevel, seed);
+    }
+
+    /**
+     * constructor for a field of any size whose bombs are planted from a given seed
+     * @param height number of rows in the field
+     * @param width number of columns in the field
+     * @param difficultyLevel 0 for easy, 1 for medium, 2 for hard
+     * @param seed seed for the random bomb placement
+     */
+    public MineField(int height, int width, int difficultyLevel, long seed){
+        this(height, width, difficultyLevel, seed, false);
+    }
+
+    /**
+     * constructor for a field of any size whose bombs are planted from a given seed, optionally with
+     * its edges joined up so squares on one edge are next to the squares on the opposite edge
+     * @param height number of rows in the field
+     * @param width number of columns in the field
+     * @param difficultyLevel 0 for easy, 1 for medium, 2 for hard
+     * @param seed seed for the random bomb placement
+     * @param wrapAround true to join up the edges of the field
+     */
+    public MineField(int height, int width, int difficultyLevel, long seed, boolean wrapAround){
+        //setting up instance variables
+        this.height = height;
+        this.width = width;
+        this.topology = Topology.of(height, width, wrapAround);
+        this.seed = seed;
+        this.difficultyLevel = difficultyLevel;
+        this.gridField  = new Cubicle[this.height][this.width];
+        if (difficultyLevel == 0){
+            this.desiredNumberOfBombsInField = this.height *this.width *2/10;
+        } else if (difficultyLevel == 1){
+            this.desiredNumberOfBombsInField = this.height *this.width *3/10;
+        } else if(difficultyLevel == 2){
+            this.desiredNumberOfBombsInField = this.height *this.width *4/10;
+        } 
+        //planting bombs in field and other setup
+        BoardGenerationEvent event = new BoardGenerationEvent();
+        event.begin();
+        long start = System.nanoTime();
+        this.plantBombsInField();
+        this.setNumberOfAdjacentBombsForEachCubicleInGrid();
+        GameMetrics.get().recordBoardGeneration(System.nanoTime() - start);
+        if (event.shouldCommit()){
+            event.height = height;
+            event.width = width;
+            event.difficultyLevel = difficultyLevel;
+            event.commit();
+        }
+        this.hasLost = false;
+    }
+
+    /**
+     * constructor that copies the bombs of another minefield into a fresh, unplayed one. The other
+     * minefield is only read, never woken up, so many games can be copied from one field that was
+     * generated once, even from several threads at the same time.
+     * @param template minefield whose bombs are copied
+     * @throws IllegalStateException if the template is hibernating
+     */
+    MineField(MineField template){
+        Cubicle[][] templateGrid = template.gridField;
+        if (templateGrid == null){
+            throw new IllegalStateException("Cannot copy a hibernating minefield");
+        }
+        this.height = template.height;
+        this.width = template.width;
+        this.desiredNumberOfBombsInField = template.desiredNumberOfBombsInField;
+        this.seed = template.seed;
+        this.difficultyLevel = template.difficultyLevel;
+        this.topology = template.topology;
+        this.gridField = new Cubicle[this.height][this.width];
+        for(int row = 0; row < this.height; row++){
+            for(int col = 0; col < this.width; col++){
+                Cubicle source = templateGrid[row][col];
+                Cubicle copy = new Cubicle(source.isBomb());
+                copy.setNumberOfAdjacentBombs(source.getNumberOfAdjacentBombs());
+                this.gridField[row][col] = copy;
+            }
+        }
+        this.hasLost = false;
+    }
+
+    /**
+     * Helper function that plants a given amount of bombs in the minefield.
+     * The number of bombs is determined by the instance variable in MineField class.
+     */
+    private void plantBombsInField(){
+        Random random = new Random(this.seed);
+        int bombsCount = 1;
+        for(int row = 0; row < this.height; row++){
+            for(int col = 0; col < this.width; col++){
+                double randomNum =  random.nextDouble()*(double)(this.height *this.width);
+                if (randomNum <= desiredNumberOfBombsInField &&
+                    bombsCount <= desiredNumberOfBombsInField){
+                    gridField[row][col] = new Cubicle(true);
+                    bombsCount++;
+                }
+                else{
+                    gridField[row][col] = new Cubicle(false);
+                }
+            }
+        }
+    }
+
+    /**
+     * Helper function that determines number of adjacent bombs provided a cubicle address
+     * @param row row location of cubicle in minefield
+     * @param col column location of cubicle in minefield
+     * @return number of bombs adjacent to a particular cubicle
+     */
+    private int determineNumberOfAdjacentBombs(int row, int col){
+        int numBombs = 0;
+        Topology topology = this.topology;
+        int end = topology.endNeighbor(row, col);
+        for (int k = topology.firstNeighbor(row, col); k < end; k++){
+            if (this.gridField[topology.neighborRow(k)][topology.neighborColumn(k)].isBomb()){
+                numBombs++;
+            }
+        }
+        return numBombs;
+    }
+
+    /**
+     * helper function that informs each cubicle in the model how many adjacent bombs there are
+     */
+    void setNumberOfAdjacentBombsForEachCubicleInGrid(){
+        for(int row = 0; row < this.height; row++){
+            for(int col = 0; col < this.width; col++){
+                int numBombs = this.determineNumberOfAdjacentBombs(row, col);
+                this.gridField[row][col].setNumberOfAdjacentBombs(numBombs);
+            }
+        }
+    }
+
+    /**
+     * Helper function that gets the cubicle at an address, waking the field up first if it is hibernating
+     * @param row row location of cubicle in minefield
+     * @param col column location of cubicle in minefield
+     * @return the cubicle at that address
+     */
+    private Cubicle getCubicle(int row, int col){
+        this.wakeUp();
+        return this.gridField[row][col];
+    }
+
+    /**
+     * Hibernates the minefield: the grid of cubicles is dropped and only the seed plus a compressed,
+     * run-length encoded copy of the revealed and flagged cubicles is kept. The field wakes up again
+     * on its own the next time it is used.
+     */
+    public void hibernate(){
+        if (this.gridField == null){
+            return;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes))){
+            this.writeRuns(out, false);
+            this.writeRuns(out, true);
+        } catch (IOException e){
+            throw new UncheckedIOException(e);
+        }
+        this.hibernatedState = bytes.toByteArray();
+        this.gridField = null;
+    }
+
+    /**
+     * Helper function that rebuilds the grid of cubicles from the seed and restores which cubicles
+     * were revealed and flagged. Does nothing if the field is not hibernating.
+     */
+    private void wakeUp(){
+        if (this.gridField != null){
+            return;
+        }
+        this.gridField = new Cubicle[this.height][this.width];
+        this.plantBombsInField();
+        this.setNumberOfAdjacentBombsForEachCubicleInGrid();
+        try (DataInputStream in = new DataInputStream(
+                new InflaterInputStream(new ByteArrayInputStream(this.hibernatedState)))){
+            this.readRuns(in, false);
+            this.readRuns(in, true);
+        } catch (IOException e){
+            throw new UncheckedIOException(e);
+        }
+        this.hibernatedState = null;
+    }
+
+    /**
+     * Helper function that writes the revealed or flagged cubicles, in row order, as alternating
+     * run lengths of unmarked and marked cubicles (starting with unmarked).
+     * @param out stream to write the run lengths to
+     * @param flags true to write the flagged cubicles; false to write the revealed cubicles
+     * @throws IOException if the stream cannot be written
+     */
+    private void writeRuns(DataOutputStream out, boolean flags) throws IOException{
+        boolean current = false;
+        int runLength = 0;
+        for(int row = 0; row < this.height; row++){
+            for(int col = 0; col < this.width; col++){
+                Cubicle cube = this.gridField[row][col];
+                boolean marked = flags ? cube.isCubicleFlagged() : cube.isCubicleRevealed();
+                if (marked != current){
+                    out.writeInt(runLength);
+                    current = marked;
+                    runLength = 0;
+                }
+                runLength++;
+            }
+        }
+        out.writeInt(runLength);
+    }
+
+    /**
+     * Helper function that reads run lengths written by writeRuns and marks the cubicles they cover.
+     * @param in stream to read the run lengths from
+     * @param flags true to restore flagged cubicles; false to restore revealed cubicles
+     * @throws IOException if the stream cannot be read
+     */
+    private void readRuns(DataInputStream in, boolean flags) throws IOException{
+        int total = this.height * this.width;
+        int index = 0;
+        boolean marked = false;
+        while (index < total){
+            int runEnd = index + in.readInt();
+            for (; index < runEnd; index++){
+                if (marked){
+                    Cubicle cube = this.gridField[index / this.width][index % this.width];
+                    if (flags){
+                        cube.setCubeFlag();
+                    } else{
+                        cube.setAsRevealed();
+                    }
+                }
+            }
+            marked = !marked;
+        }
+    }
+
+    /**
+     * checks if the minefield is currently hibernating
+     * @return true if hibernating; false otherwise
+     */
+    public boolean isHibernated(){
+        return this.gridField == null;
+    }
+
+    /**
+     * Estimates how much heap hibernating saves, which is the size of the grid of cubicles
+     * minus the size of the compressed state kept in its place.
+     * @return estimated number of bytes saved; 0 if the field is not hibernating
+     */
+    public long getHibernatedBytesSaved(){
+        if (this.gridField != null){
+            return 0;
+        }
+        long rowBytes = OBJECT_HEADER_BYTES + (long)this.width * (REFERENCE_BYTES + CUBICLE_BYTES);
+        long gridBytes = OBJECT_HEADER_BYTES + this.height * (REFERENCE_BYTES + rowBytes);
+        return gridBytes - (OBJECT_HEADER_BYTES + this.hibernatedState.length);
+    }
+
+    /**
+     * accessor method that gets the seed the bombs were planted from
+     * @return the seed
+     */
+    public long getSeed(){
+        return this.seed;
+    }
+
+    /**
+     * accessor method that gets the difficulty the minefield was made with
+     * @return 0 for easy, 1 for medium, 2 for hard
+     */
+    public int getDifficultyLevel(){
+        return this.difficultyLevel;
+    }
+
+    /**
+     * accessor method that gets which squares are next to which in the minefield
+     * @return the topology of the minefield
+     */
+    public Topology getTopology(){
+        return this.topology;
+    }
+
+    /**
+     * accessor method that gets the number of rows in the minefield
+     * @return number of rows
+     */
+    public int getHeight(){
+        return this.height;
+    }
+
+    /**
+     * accessor method that gets the number of columns in the minefield
+     * @return number of columns
+     */
+    public int getWidth(){
+        return this.width;
+    }
+
+    /**
+     * function that determines if a cubicle at a particular (row,column) address has a bomb
+     * @param row row location of a particular cubicle within the minfield
+     * @param column column location of a particular cubicle within the minfield
+     * @return number of bombs
+     */
+    public boolean isBomb(int row, int column){
+        return this.getCubicle(row, column).isBomb();
+    }
+
+    /**
+     * accessor method that obtains number of bombs adjacent to a particular cubicle
+     * @param row row location of a particular cubicle within the minfield
+     * @param col column column location of a particular cubicle within the minfield
+     * @return integer number representing number of adjacent bombs
+     */
+    public int getNumberOfAdjacentBombs(int row, int col){
+        return this.getCubicle(row, col).getNumberOfAdjacentBombs();
+    }
+
+    /**
+     * accessor method that gets total number of bombs in the minefield
+     * @return integer number representing total number of bombs in field
+     */
+    public int getTotalNumberOfBombs(){
+        int numBombs = 0;
+        for(int row = 0; row < this.height; row++){
+            for(int col = 0; col < this.width; col++){
+                if (this.isBomb(row, col) == true){
+                    numBombs++;
+                }
+            }
+        }
+        return numBombs;
+    }
+
+    /**
+     * Determines if cubicle at a particular address has been flagged by user
+     * @param row row row location of a particular cubicle within the minfield
+     * @param col column column location of a particular cubicle within the minfield
+     * @return return true if cubicle has been flagged; false otherwise
+     */
+    public boolean isFlagged(int row, int col){
+        return this.getCubicle(row, col).isCubicleFlagged();
+    }
+
+    /**
+     * Determines if cubicle at a particular row column address
+     * @param row row row location of a particular cubicle within the minfield
+     * @param col column column location of a particular cubicle within the minfield
+     * @return returns true if cubicle has been revealed; false otherwise
+     */
+    public boolean isRevealed(int row, int col){
+        return this.getCubicle(row, col).isCubicleRevealed();
+    }
+
+    /**
+     * Determines if user passes winning conditions
+     * @return true if user passes winning conditions; false otherwise
+     */
+
+    public boolean hasUserWon() {
+        this.wakeUp();
+        boolean userWon = true;
+        for (int row = 0; row < this.height; row++) {
+            for (int col = 0; col < this.width; col++) {
+                Cubicle cube = this.gridField[row][col];
+                if ((!cube.isBomb() && !cube.isCubicleRevealed())) {
+                    userWon = false;
+                }
+
+            }
+        }
+        return userWon;
+    }
+
+    /**
+     * Mutator method that informs a cubicle that it has been flagged
+     * @param row row row location of a particular cubicle within the minfield
+     * @param col column column location of a particular cubicle within the minfield
+     */
+    public void setFlag(int row, int col){
+        this.getCubicle(row, col).setCubeFlag();
+    }
+
+    /**
+     * mutator method that informs a cubicle it has been revealed
+     * @param row row row location of a particular cubicle within the minfield
+     * @param col column column location of a particular cubicle within the minfield
+     */
+    void setCubicleAsRevealed(int row, int col){
+        this.getCubicle(row, col).setAsRevealed();
+    }
+
+    /**
+     * mutator method that informs cubicle that flag has been removed
+     * @param row row row location of a particular cubicle within the minfield
+     * @param col column column location of a particular cubicle within the minfield
+     */
+    void removeFlag(int row, int col){
+        this.getCubicle(row, col).removeCubeFlag();
+    }
+
+    /**
+     * Puts the minefield back the way it was before anyone played on it: every cubicle hidden and
+     * unflagged, and the user not lost. The bombs stay where they are, and nothing is allocated.
+     */
+    void clearPlay(){
+        this.wakeUp();
+        for(int row = 0; row < this.height; row++){
+            for(int col = 0; col < this.width; col++){
+                this.gridField[row][col].clearPlay();
+            }
+        }
+        this.hasLost = false;
+    }
+
+    /**
+     * Changes the hasLost boolean so that it can remember that a user has lost.
+     */
+    void userLost() {
+        this.hasLost = true;
+    }
+
+    /**
+     * Tells whether or not the user has lost.
+     * @return True if the user has lost, false if the user has not lost.
+     */
+    boolean hasUserLost() {
+    return this.hasLost;
+    }
+}
\ No newline at end of file
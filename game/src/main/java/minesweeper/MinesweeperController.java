@@ -0,0 +1,294 @@
+package minesweeper;
+
+import java.io.IOException;
+
+public class MinesweeperController {
+    private static final long DEFAULT_IDLE_HIBERNATE_MILLIS = 5 * 60 * 1000;
+    private MinesweeperDisplay view;
+    private MineField model;
+    private long idleHibernateMillis = DEFAULT_IDLE_HIBERNATE_MILLIS;
+    private long lastActionTime = System.currentTimeMillis();
+    private int squaresRevealedThisPress;
+    private volatile StatisticsStore statistics;
+    private long gameStartTime;
+    private int clicks;
+    private boolean gameRecorded;
+
+
+    /**
+     * Constructor
+     */
+    public MinesweeperController() {
+        GameMetrics.register();
+        model = new MineField();
+        MinesweeperView fxView = new MinesweeperView();
+        fxView.setController(this);
+        view = fxView;
+        fxView.callLaunch();
+    }
+
+    /**
+     * Constructor
+     * @param newView the view instance.
+     */
+    public MinesweeperController(MinesweeperDisplay newView) {
+        model = new MineField();
+        view = newView;
+    }
+
+    /**
+     * Constructor for a controller whose first game is on a minefield that has already been built,
+     * so no board is generated just to be thrown away. Call newGame(MineField) to start each game.
+     * @param newView the view instance.
+     * @param firstModel the minefield for the first game.
+     */
+    MinesweeperController(MinesweeperDisplay newView, MineField firstModel) {
+        model = firstModel;
+        view = newView;
+    }
+
+    /**
+     * Main user interaction, displays a "you lose" message if you click a bomb, or reveals the number of adjacent bombs if it is not a bomb.
+     * @param row the row of the button.
+     * @param column the column of the button.
+     */
+    public void buttonPressed(int row, int column) {
+        startClockOnFirstMove();
+        ButtonPressedEvent event = new ButtonPressedEvent();
+        event.begin();
+        squaresRevealedThisPress = 0;
+        boolean lostBefore = model.hasUserLost();
+        revealSquare(row, column);
+        if (squaresRevealedThisPress > 1) {
+            GameMetrics.get().recordCascade(squaresRevealedThisPress);
+        }
+        if (event.shouldCommit()) {
+            event.row = row;
+            event.column = column;
+            event.squaresRevealed = squaresRevealedThisPress;
+            event.hitBomb = !lostBefore && model.hasUserLost();
+            event.commit();
+        }
+    }
+
+    /**
+     * Reveals a square, or loses the game if it is a bomb. Revealing a zero reveals the squares around it too.
+     * @param row the row of the button.
+     * @param column the column of the button.
+     */
+    private void revealSquare(int row, int column) {
+        if (model.isFlagged(row, column) || model.hasUserLost()){
+        } else if(model.isBomb(row, column)) {
+            model.userLost();
+            recordGame(false);
+            view.youLose();
+        } else{
+            if (!model.isRevealed(row, column)) {
+                squaresRevealedThisPress++;
+                GameMetrics.get().recordReveal();
+            }
+            model.setCubicleAsRevealed(row, column);
+            int numAdjacent = model.getNumberOfAdjacentBombs(row, column);
+            long viewStart = System.nanoTime();
+            view.displayNumberOfAdjacentBombs(row, column, numAdjacent);
+            GameMetrics.get().recordViewUpdate(System.nanoTime() - viewStart);
+            if (numAdjacent == 0){
+                callAdjacentSquares(row, column);
+            }
+            long winCheckStart = System.nanoTime();
+            boolean userWon = model.hasUserWon();
+            GameMetrics.get().recordWinCheck(System.nanoTime() - winCheckStart);
+            if (userWon){
+                recordGame(true);
+                view.youWin();
+            }
+        }
+    }
+
+    /**
+     * Flags a button if the button is not flagged, unflags a button if it is already flagged.
+     * @param row the row of the button.
+     * @param column the column of the button.
+     */
+
+    public void flagButton(int row, int column) {
+        startClockOnFirstMove();
+        if (model.hasUserLost()){
+        } else if (model.isFlagged(row, column)) {
+            model.removeFlag(row, column);
+            long viewStart = System.nanoTime();
+            view.setUnflagged(row, column);
+            GameMetrics.get().recordViewUpdate(System.nanoTime() - viewStart);
+        } else {
+            model.setFlag(row, column);
+            long viewStart = System.nanoTime();
+            view.flagButton(row, column);
+            GameMetrics.get().recordViewUpdate(System.nanoTime() - viewStart);
+        }
+    }
+
+    /**
+     * Helper that notes the time of a click or flag, and starts the game's clock if it is the first
+     * one, so time spent before the player starts is not counted against them.
+     */
+    private void startClockOnFirstMove() {
+        lastActionTime = System.currentTimeMillis();
+        if (clicks == 0) {
+            gameStartTime = lastActionTime;
+        }
+        clicks++;
+    }
+
+    /**
+     * Creates a new game.
+     */
+    public void newGame() {
+        startGame(new MineField());
+    }
+    public void newGame(int difficultyLevel) {
+        startGame(new MineField(difficultyLevel));
+    }
+
+    /**
+     * Creates a new game of the given size whose bombs are planted from a seed, so it can be replayed.
+     * @param height the number of rows.
+     * @param width the number of columns.
+     * @param difficultyLevel 0 for easy, 1 for medium, 2 for hard.
+     * @param seed the seed for planting bombs.
+     */
+    public void newGame(int height, int width, int difficultyLevel, long seed) {
+        startGame(new MineField(height, width, difficultyLevel, seed));
+    }
+
+    /**
+     * Creates a new game on a minefield that has already been built.
+     * @param newModel the minefield for the new game.
+     */
+    void newGame(MineField newModel) {
+        startGame(newModel);
+    }
+
+    /**
+     * Starts the current game over on the same minefield, with every square hidden again, without
+     * building a new one.
+     */
+    void restartGame() {
+        model.clearPlay();
+        startGame(model);
+    }
+
+    /**
+     * Helper that switches to a new minefield and resets the view for it.
+     * @param newModel the minefield for the new game.
+     */
+    private void startGame(MineField newModel) {
+        model = newModel;
+        lastActionTime = System.currentTimeMillis();
+        clicks = 0;
+        gameRecorded = false;
+        ResetGridEvent event = new ResetGridEvent();
+        event.begin();
+        long viewStart = System.nanoTime();
+        view.resetGrid();
+        GameMetrics.get().recordViewUpdate(System.nanoTime() - viewStart);
+        event.commit();
+    }
+
+    /**
+     * Sets where finished games are recorded. Can be called from any thread, so the store can be
+     * opened in the background while the game starts up.
+     * @param store the statistics store.
+     */
+    public void setStatisticsStore(StatisticsStore store) {
+        statistics = store;
+    }
+
+    /**
+     * Helper that records the current game in the statistics store, once, when it is won or lost.
+     * @param won true if the user won; false if they lost.
+     */
+    private void recordGame(boolean won) {
+        StatisticsStore store = statistics;
+        if (store == null || gameRecorded) {
+            return;
+        }
+        gameRecorded = true;
+        long now = System.currentTimeMillis();
+        try {
+            store.append(new GameRecord(now, model.getSeed(), now - gameStartTime, clicks,
+                    model.getHeight(), model.getWidth(), model.getDifficultyLevel(), won));
+        } catch (IOException e) {
+            System.err.println("Could not record game statistics: " + e);
+        }
+    }
+
+    /**
+     * Sets how long the game can sit without any clicks before it is hibernated.
+     * @param millis the idle time in milliseconds.
+     */
+    public void setIdleHibernateMillis(long millis) {
+        idleHibernateMillis = millis;
+    }
+
+    /**
+     * Hibernates the minefield if nobody has clicked on it for longer than the idle time. The heap saved
+     * is added to GameMetrics. The minefield wakes back up by itself on the next click.
+     * @return estimated number of bytes of heap saved; 0 if the game was not hibernated.
+     */
+    public long hibernateIfIdle() {
+        if (model.isHibernated() || System.currentTimeMillis() - lastActionTime <= idleHibernateMillis) {
+            return 0;
+        }
+        model.hibernate();
+        long bytesSaved = model.getHibernatedBytesSaved();
+        GameMetrics.get().recordHibernation(bytesSaved);
+        return bytesSaved;
+    }
+
+    /**
+     * Returns the number of bombs in the whole grid.
+     * @return numBombs the number of total bombs in the minefield.
+     */
+    public int getTotalNumberOfBombs() {
+        int numBombs = model.getTotalNumberOfBombs();
+        return numBombs;
+    }
+
+    /**
+     * Returns the number of rows in the minefield.
+     * @return the number of rows.
+     */
+    public int getHeight() {
+        return model.getHeight();
+    }
+
+    /**
+     * Returns the number of columns in the minefield.
+     * @return the number of columns.
+     */
+    public int getWidth() {
+        return model.getWidth();
+    }
+
+    /**
+     * For when a zero is clicked.  Presses all the buttons surrounding the zero since they are guaranteed to not be bombs.
+     * @param row the row of the button.
+     * @param column the column of the button.
+     */
+    public void callAdjacentSquares(int row, int column) {
+        Topology topology = model.getTopology();
+        int end = topology.endNeighbor(row, column);
+        for (int k = topology.firstNeighbor(row, column); k < end; k++) {
+            int newRow = topology.neighborRow(k);
+            int newCol = topology.neighborColumn(k);
+            if (!model.isRevealed(newRow, newCol)) {
+                revealSquare(newRow, newCol);
+            }
+        }
+    }
+
+    public static void main(String[] args){
+        MinesweeperController controller = new MinesweeperController();
+    }
+
+}
\ No newline at end of file
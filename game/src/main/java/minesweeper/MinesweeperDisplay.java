@@ -0,0 +1,45 @@
+package minesweeper;
+
+/**
+ * Everything the controller needs from a view of the minesweeper game, so the game
+ * can be driven by the JavaFX view or by anything else that shows the board.
+ */
+public interface MinesweeperDisplay {
+
+    /**
+     * Tells the user that they have won the game.
+     */
+    void youWin();
+
+    /**
+     * Tells the user that they have lost the game.
+     */
+    void youLose();
+
+    /**
+     * Reveals the number of adjacent bombs for a given square.
+     * @param row the row of the square.
+     * @param column the column of the square.
+     * @param numAdjacent the number of bombs adjacent to the square.
+     */
+    void displayNumberOfAdjacentBombs(int row, int column, int numAdjacent);
+
+    /**
+     * Unflags a given square.
+     * @param row the row of the square.
+     * @param column the column of the square.
+     */
+    void setUnflagged(int row, int column);
+
+    /**
+     * Flags a given square.
+     * @param row the row of the square.
+     * @param column the column of the square.
+     */
+    void flagButton(int row, int column);
+
+    /**
+     * Resets the board for a new game.
+     */
+    void resetGrid();
+}
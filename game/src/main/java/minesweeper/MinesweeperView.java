@@ -1,3 +1,8 @@
+package minesweeper;
+
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
 import javafx.application.Application;
 import javafx.event.ActionEvent;
 import javafx.scene.input.MouseEvent;
@@ -13,6 +18,9 @@ import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 import javafx.scene.text.Text;
 import javafx.stage.Stage;
+import javafx.util.Duration;
+
+import java.io.IOException;
 
 /**
  * View for the minesweeper game.
@@ -22,9 +30,10 @@ import javafx.stage.Stage;
  * @author Alejandro Gallardo
  * June 2019
  */
-public class MinesweeperView extends Application {
+public class MinesweeperView extends Application implements MinesweeperDisplay {
     private static final double SCENE_WIDTH = 1200;
     private static final double SCENE_HEIGHT = 800;
+    private static final double IDLE_CHECK_SECONDS = 30;
     private MinesweeperController controller;
     private GridPane grid;
     private int bombsRemaining;
@@ -72,6 +81,50 @@ public class MinesweeperView extends Application {
         stage.setTitle("MINESWEEPER");
         stage.setScene(scene);
         stage.show();
+
+        startIdleTimer();
+        openStatistics();
+    }
+
+    /**
+     * Opens the statistics store on a background thread, so a large history does not hold up the window.
+     */
+    private void openStatistics() {
+        Thread opener = new Thread(new Runnable() {
+
+            /**
+             * Opens the store and hands it to the controller.
+             */
+            @Override
+            public void run() {
+                try {
+                    controller.setStatisticsStore(StatisticsStore.open(StatisticsStore.defaultPath()));
+                } catch (IOException e) {
+                    System.err.println("Could not open game statistics: " + e);
+                }
+            }
+        }, "statistics-opener");
+        opener.setDaemon(true);
+        opener.start();
+    }
+
+    /**
+     * Starts a timer that regularly asks the controller to hibernate the game if it has been left idle.
+     */
+    private void startIdleTimer() {
+        Timeline idleTimer = new Timeline(new KeyFrame(Duration.seconds(IDLE_CHECK_SECONDS), new EventHandler<ActionEvent>() {
+
+            /**
+             * Checks whether the game has been idle for too long.
+             * @param event the timer went off.
+             */
+            @Override
+            public void handle(ActionEvent event) {
+                controller.hibernateIfIdle();
+            }
+        }));
+        idleTimer.setCycleCount(Animation.INDEFINITE);
+        idleTimer.play();
     }
 
     /**
@@ -163,7 +216,7 @@ public class MinesweeperView extends Application {
     /**
      * Alerts the use that they have won the game.
      */
-    void youWin() {
+    public void youWin() {
         Alert alert = new Alert(Alert.AlertType.INFORMATION);
         alert.setTitle(null);
         alert.setHeaderText(null);
@@ -175,7 +228,7 @@ public class MinesweeperView extends Application {
     /**
      * Alerts the use that they have lost the game.
      */
-    void youLose() {
+    public void youLose() {
         Alert alert = new Alert(Alert.AlertType.ERROR);
         alert.setTitle(null);
         alert.setHeaderText(null);
@@ -189,7 +242,7 @@ public class MinesweeperView extends Application {
      * @param column the column of the button.
      * @param numAdjacent the number of bombs adjacent to the button.
      */
-    void displayNumberOfAdjacentBombs(int row, int column, int numAdjacent) {
+    public void displayNumberOfAdjacentBombs(int row, int column, int numAdjacent) {
         String numAdjacentString = Integer.toString(numAdjacent);
 
         Button button = new Button();
@@ -206,7 +259,7 @@ public class MinesweeperView extends Application {
      * @param row the row of the button.
      * @param column the column of the button.
      */
-    void setUnflagged(int row, int column) {
+    public void setUnflagged(int row, int column) {
         Button button = new Button();
         getAction(row, column, button);
 
@@ -222,7 +275,7 @@ public class MinesweeperView extends Application {
      * @param row the row of the button.
      * @param column the column of the button.
      */
-    void flagButton(int row, int column){
+    public void flagButton(int row, int column){
         Button button = new Button("X");
         button.setTextFill(Color.WHITE);
         getAction(row, column, button);
@@ -0,0 +1,63 @@
+package minesweeper;
+
+/**
+ * One move by a player: clicking a square or toggling the flag on it.
+ */
+public final class Move {
+    private final int row;
+    private final int column;
+    private final boolean flag;
+
+    /**
+     * constructor
+     * @param row the row of the square.
+     * @param column the column of the square.
+     * @param flag true to toggle the flag; false to click.
+     */
+    private Move(int row, int column, boolean flag) {
+        this.row = row;
+        this.column = column;
+        this.flag = flag;
+    }
+
+    /**
+     * Makes a move that clicks a square.
+     * @param row the row of the square.
+     * @param column the column of the square.
+     * @return the move.
+     */
+    public static Move click(int row, int column) {
+        return new Move(row, column, false);
+    }
+
+    /**
+     * Makes a move that flags a square, or unflags it if it is already flagged.
+     * @param row the row of the square.
+     * @param column the column of the square.
+     * @return the move.
+     */
+    public static Move flag(int row, int column) {
+        return new Move(row, column, true);
+    }
+
+    /**
+     * @return the row of the square.
+     */
+    public int getRow() {
+        return row;
+    }
+
+    /**
+     * @return the column of the square.
+     */
+    public int getColumn() {
+        return column;
+    }
+
+    /**
+     * @return true if the move toggles the flag; false if it clicks.
+     */
+    public boolean isFlag() {
+        return flag;
+    }
+}
@@ -0,0 +1,16 @@
+package minesweeper;
+
+/**
+ * Strategy for playing minesweeper. A player sees only what a person would see on the screen,
+ * and is asked for one move at a time until the game is won or lost. A new player is made for
+ * every game, so players can keep whatever state they like between moves.
+ */
+public interface Player {
+
+    /**
+     * Chooses the next move.
+     * @param board what the player can see of the board.
+     * @return the move to make.
+     */
+    Move nextMove(VisibleBoard board);
+}
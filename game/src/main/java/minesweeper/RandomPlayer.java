@@ -0,0 +1,39 @@
+package minesweeper;
+
+import java.util.Random;
+
+/**
+ * Player that clicks a random hidden square every move. Useful as a baseline for other players.
+ */
+public class RandomPlayer implements Player {
+    private final Random random;
+
+    /**
+     * constructor
+     * @param seed the seed for choosing squares.
+     */
+    public RandomPlayer(long seed) {
+        this.random = new Random(seed);
+    }
+
+    @Override
+    public Move nextMove(VisibleBoard board) {
+        int hidden = 0;
+        for (int row = 0; row < board.getHeight(); row++) {
+            for (int col = 0; col < board.getWidth(); col++) {
+                if (!board.isRevealed(row, col) && !board.isFlagged(row, col)) {
+                    hidden++;
+                }
+            }
+        }
+        int choice = random.nextInt(hidden);
+        for (int row = 0; row < board.getHeight(); row++) {
+            for (int col = 0; col < board.getWidth(); col++) {
+                if (!board.isRevealed(row, col) && !board.isFlagged(row, col) && choice-- == 0) {
+                    return Move.click(row, col);
+                }
+            }
+        }
+        throw new IllegalStateException("No hidden squares left to click");
+    }
+}
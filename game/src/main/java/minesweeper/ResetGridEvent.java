@@ -0,0 +1,16 @@
+package minesweeper;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event covering the view resetting its grid for a new game.
+ */
+@Name("minesweeper.ResetGrid")
+@Label("Reset Grid")
+@Category("Minesweeper")
+@Description("The view resetting its grid for a new game")
+class ResetGridEvent extends jdk.jfr.Event {
+}
@@ -0,0 +1,53 @@
+package minesweeper;
+
+/**
+ * Player that looks at one revealed number at a time. If a number already has all its bombs
+ * flagged, the rest of its hidden neighbors are clicked; if its hidden neighbors are exactly as
+ * many as its bombs, they are all flagged. When neither rule applies it guesses like RandomPlayer.
+ */
+public class SinglePointPlayer implements Player {
+    private final RandomPlayer guesser;
+
+    /**
+     * constructor
+     * @param seed the seed for guessing.
+     */
+    public SinglePointPlayer(long seed) {
+        this.guesser = new RandomPlayer(seed);
+    }
+
+    @Override
+    public Move nextMove(VisibleBoard board) {
+        Topology topology = board.getTopology();
+        for (int row = 0; row < board.getHeight(); row++) {
+            for (int col = 0; col < board.getWidth(); col++) {
+                if (!board.isRevealed(row, col)) {
+                    continue;
+                }
+                int bombs = board.getNumberOfAdjacentBombs(row, col);
+                int flagged = 0;
+                int hidden = 0;
+                int hiddenRow = -1;
+                int hiddenCol = -1;
+                for (int k = topology.firstNeighbor(row, col); k < topology.endNeighbor(row, col); k++) {
+                    int x = topology.neighborRow(k);
+                    int y = topology.neighborColumn(k);
+                    if (board.isFlagged(x, y)) {
+                        flagged++;
+                    } else if (!board.isRevealed(x, y)) {
+                        hidden++;
+                        hiddenRow = x;
+                        hiddenCol = y;
+                    }
+                }
+                if (hidden > 0 && flagged == bombs) {
+                    return Move.click(hiddenRow, hiddenCol);
+                }
+                if (hidden > 0 && flagged + hidden == bombs) {
+                    return Move.flag(hiddenRow, hiddenCol);
+                }
+            }
+        }
+        return guesser.nextMove(board);
+    }
+}
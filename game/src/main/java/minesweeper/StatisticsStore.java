@@ -0,0 +1,300 @@
+package minesweeper;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Statistics for every finished game, kept in an append-only file of fixed-size records. Opening the
+ * store memory-maps the file and scans it once to build a small index:
+ * <ul>
+ * <li>the fastest wins for each difficulty, up to LEADERBOARD_SIZE of them, in a sorted set, so adding a
+ * game costs O(log LEADERBOARD_SIZE), and</li>
+ * <li>a running count of wins after each game, overall and per difficulty, so the win rate over the
+ * last N games is a subtraction.</li>
+ * </ul>
+ * The index takes about eight bytes per game, four for the overall count and four for the count of the
+ * game's difficulty (up to twice that just after the arrays grow), and the records themselves are only
+ * read back from the file when a leaderboard is asked for, so the store stays small and quick to open
+ * with millions of games.
+ *
+ * Several games can share one file: every write holds a lock on the file and goes at its current end,
+ * and games another process added since the last write are indexed first.
+ */
+public class StatisticsStore implements AutoCloseable {
+    public static final int LEADERBOARD_SIZE = 100;
+    private static final int MAGIC = 0x4d494e45;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 8;
+    private static final long MAX_MAPPED_BYTES = (Integer.MAX_VALUE / GameRecord.BYTES) * (long) GameRecord.BYTES;
+
+    private final FileChannel channel;
+    private final ByteBuffer writeBuffer = ByteBuffer.allocate(GameRecord.BYTES);
+    private int gameCount;
+    private final WinCounts allWins = new WinCounts();
+    private final Map<Integer, WinCounts> winsByDifficulty = new HashMap<>();
+    private final Map<Integer, TreeSet<Long>> bestTimesByDifficulty = new HashMap<>();
+
+    /**
+     * constructor
+     * @param channel the open statistics file.
+     */
+    private StatisticsStore(FileChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Gets where the statistics are kept by default, in the user's home directory.
+     * @return the default statistics file.
+     */
+    public static Path defaultPath() {
+        return Paths.get(System.getProperty("user.home"), ".minesweeper", "games.dat");
+    }
+
+    /**
+     * Opens a statistics file, creating it if needed, and builds the index from it. A record cut short
+     * by a crash while it was being written is dropped.
+     * @param path the statistics file.
+     * @return the open store.
+     * @throws IOException if the file cannot be read or written, or is not a statistics file.
+     */
+    public static StatisticsStore open(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        StatisticsStore store = new StatisticsStore(channel);
+        try {
+            store.load();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        return store;
+    }
+
+    /**
+     * Helper function that checks the header, drops any partial record at the end, and scans the
+     * records to build the index.
+     * @throws IOException if the file cannot be read or written, or is not a statistics file.
+     */
+    private void load() throws IOException {
+        FileLock lock = channel.lock();
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            if (channel.size() < HEADER_BYTES) {
+                header.putInt(MAGIC).putInt(VERSION).flip();
+                channel.truncate(0);
+                channel.write(header, 0);
+                return;
+            }
+            channel.read(header, 0);
+            if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+                throw new IOException("Not a minesweeper statistics file");
+            }
+            indexNewRecords();
+        } finally {
+            lock.release();
+        }
+    }
+
+    /**
+     * Helper function that drops any partial record at the end of the file and adds every record past
+     * the ones already indexed, through memory-mapped chunks. The caller must hold the file lock.
+     * @return where the records end, which is where the next one goes.
+     * @throws IOException if the file cannot be read or written.
+     */
+    private long indexNewRecords() throws IOException {
+        long records = (channel.size() - HEADER_BYTES) / GameRecord.BYTES;
+        long end = HEADER_BYTES + records * GameRecord.BYTES;
+        if (channel.size() != end) {
+            channel.truncate(end);
+        }
+        for (long start = HEADER_BYTES + (long) gameCount * GameRecord.BYTES; start < end; start += MAX_MAPPED_BYTES) {
+            long length = Math.min(MAX_MAPPED_BYTES, end - start);
+            MappedByteBuffer chunk = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+            for (int offset = 0; offset < length; offset += GameRecord.BYTES) {
+                index(chunk.getLong(offset + 16), chunk.get(offset + 36), chunk.get(offset + 37) != 0);
+            }
+        }
+        return end;
+    }
+
+    /**
+     * Helper function that adds the next game to the index.
+     * @param durationMillis how long the game took.
+     * @param difficultyLevel difficulty of the game.
+     * @param won true if the game was won.
+     */
+    private void index(long durationMillis, int difficultyLevel, boolean won) {
+        int recordIndex = gameCount++;
+        allWins.add(won);
+        winsByDifficulty.computeIfAbsent(difficultyLevel, level -> new WinCounts()).add(won);
+        if (won) {
+            TreeSet<Long> best = bestTimesByDifficulty.computeIfAbsent(difficultyLevel, level -> new TreeSet<>());
+            long clamped = Math.min(Math.max(durationMillis, 0), Integer.MAX_VALUE);
+            long key = clamped << 32 | recordIndex;
+            if (best.size() < LEADERBOARD_SIZE) {
+                best.add(key);
+            } else if (key < best.last()) {
+                best.pollLast();
+                best.add(key);
+            }
+        }
+    }
+
+    /**
+     * Adds a finished game to the end of the file and to the index. Games another process has added
+     * to the file since this store last looked are indexed first, so the new game gets the right place.
+     * @param record the finished game.
+     * @throws IOException if the file cannot be written.
+     */
+    public synchronized void append(GameRecord record) throws IOException {
+        writeBuffer.clear();
+        record.write(writeBuffer);
+        writeBuffer.flip();
+        FileLock lock = channel.lock();
+        try {
+            long position = indexNewRecords();
+            while (writeBuffer.hasRemaining()) {
+                position += channel.write(writeBuffer, position);
+            }
+            index(record.getDurationMillis(), record.getDifficultyLevel(), record.isWon());
+        } finally {
+            lock.release();
+        }
+    }
+
+    /**
+     * @return number of games recorded.
+     */
+    public synchronized int getGameCount() {
+        return gameCount;
+    }
+
+    /**
+     * Gets the fastest wins at a difficulty, fastest first.
+     * @param difficultyLevel 0 for easy, 1 for medium, 2 for hard.
+     * @param count how many to get, at most LEADERBOARD_SIZE.
+     * @return the fastest wins.
+     * @throws IOException if the records cannot be read from the file.
+     */
+    public synchronized List<GameRecord> getBestTimes(int difficultyLevel, int count) throws IOException {
+        List<GameRecord> best = new ArrayList<>();
+        TreeSet<Long> keys = bestTimesByDifficulty.get(difficultyLevel);
+        if (keys == null) {
+            return best;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(GameRecord.BYTES);
+        Iterator<Long> iterator = keys.iterator();
+        while (iterator.hasNext() && best.size() < count) {
+            int recordIndex = (int) (long) iterator.next();
+            buffer.clear();
+            long position = HEADER_BYTES + (long) recordIndex * GameRecord.BYTES;
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, position + buffer.position()) < 0) {
+                    throw new IOException("Statistics file ended in the middle of a record");
+                }
+            }
+            best.add(GameRecord.read(buffer, 0));
+        }
+        return best;
+    }
+
+    /**
+     * Gets the fraction of the most recent games at a difficulty that were won.
+     * @param difficultyLevel 0 for easy, 1 for medium, 2 for hard.
+     * @param lastGames how many of the most recent games to look at.
+     * @return fraction of those games won; 0 if there are none.
+     */
+    public synchronized double getRollingWinRate(int difficultyLevel, int lastGames) {
+        WinCounts counts = winsByDifficulty.get(difficultyLevel);
+        return counts == null ? 0 : counts.rate(lastGames);
+    }
+
+    /**
+     * Gets the fraction of the most recent games, at any difficulty, that were won.
+     * @param lastGames how many of the most recent games to look at.
+     * @return fraction of those games won; 0 if there are none.
+     */
+    public synchronized double getRollingWinRate(int lastGames) {
+        return allWins.rate(lastGames);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Prints the leaderboards and win rates from the default statistics file, or one given as an argument.
+     * @param args optionally, the statistics file.
+     * @throws IOException if the file cannot be read.
+     */
+    public static void main(String[] args) throws IOException {
+        Path path = args.length > 0 ? Paths.get(args[0]) : defaultPath();
+        long start = System.nanoTime();
+        try (StatisticsStore store = open(path)) {
+            System.out.printf(Locale.ROOT, "%d games loaded from %s in %.1f ms%n",
+                    store.getGameCount(), path, (System.nanoTime() - start) / 1e6);
+            System.out.printf(Locale.ROOT, "win rate over the last 100 games: %.1f%%%n", 100 * store.getRollingWinRate(100));
+            for (int level = 0; level <= 2; level++) {
+                System.out.printf(Locale.ROOT, "difficulty %d: win rate over the last 100 games %.1f%%%n",
+                        level, 100 * store.getRollingWinRate(level, 100));
+                int rank = 1;
+                for (GameRecord record : store.getBestTimes(level, 10)) {
+                    System.out.printf(Locale.ROOT, "  %2d. %8.1f s  %3d clicks  %dx%d  seed %d%n", rank++,
+                            record.getDurationMillis() / 1000.0, record.getClicks(),
+                            record.getHeight(), record.getWidth(), record.getSeed());
+                }
+            }
+        }
+    }
+
+    /**
+     * Running count of wins after each game, so wins over any stretch of recent games is a subtraction.
+     */
+    private static class WinCounts {
+        private int[] winsAfter = new int[16];
+        private int games;
+
+        /**
+         * Records the next game.
+         * @param won true if the game was won.
+         */
+        void add(boolean won) {
+            if (games + 1 >= winsAfter.length) {
+                winsAfter = Arrays.copyOf(winsAfter, winsAfter.length * 2);
+            }
+            winsAfter[games + 1] = winsAfter[games] + (won ? 1 : 0);
+            games++;
+        }
+
+        /**
+         * Gets the fraction of the most recent games that were won.
+         * @param lastGames how many of the most recent games to look at.
+         * @return fraction of those games won; 0 if there are none.
+         */
+        double rate(int lastGames) {
+            int window = Math.min(lastGames, games);
+            if (window <= 0) {
+                return 0;
+            }
+            return (double) (winsAfter[games] - winsAfter[games - window]) / window;
+        }
+    }
+}
@@ -0,0 +1,476 @@
+package minesweeper;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Text view for the minesweeper game, for machines with a terminal but no display. It is driven
+ * by the same controller as the JavaFX view. Each frame only redraws the squares that changed since
+ * the last one, using ANSI cursor addressing, and is sent to the terminal in a single write, so it
+ * stays smooth over slow connections. Boards bigger than the terminal scroll to follow the cursor,
+ * or a whole screen at a time.
+ *
+ * Keys: arrows or w/a/s/d move, Page Up/Page Down or H/J/K/L scroll a screen, space or enter reveals,
+ * f flags, n starts a new game, q quits.
+ * Options (all optional): --size HxW, --difficulty D
+ */
+public class TerminalView implements MinesweeperDisplay {
+    private static final String ESC = "\u001b[";
+    private static final int HIDDEN = -1;
+    private static final int FLAGGED = -2;
+    private static final int CELL_WIDTH = 2;
+    private static final int REVERSE = 1 << 15;
+    private static final int[] NUMBER_COLORS = {0, 34, 32, 31, 35, 36, 33, 37, 90};
+    private static final int FLAG_COLOR = 33;
+    private static final int PAGE_UP = 0x10000;
+    private static final int PAGE_DOWN = 0x10001;
+    private static final long ESCAPE_WAIT_MILLIS = 50;
+
+    private final OutputStream out;
+    private final StringBuilder frame = new StringBuilder();
+    private MinesweeperController controller;
+    private int[][] squares = new int[0][0];
+    private int bombsRemaining;
+    private String message = "";
+    private int cursorRow;
+    private int cursorColumn;
+    private int viewTop;
+    private int viewLeft;
+    private int screenRows;
+    private int screenColumns;
+    private int[] onScreen = new int[0];
+    private int[] nextScreen = new int[0];
+    private String statusOnScreen;
+
+    /**
+     * constructor
+     * @param out where frames are written.
+     * @param screenRows number of rows in the terminal.
+     * @param screenColumns number of columns in the terminal.
+     */
+    public TerminalView(OutputStream out, int screenRows, int screenColumns) {
+        this.out = out;
+        this.screenRows = screenRows;
+        this.screenColumns = screenColumns;
+    }
+
+    /**
+     * Initializes the controller.
+     * @param cont the controller driving this view.
+     */
+    public void setController(MinesweeperController cont) {
+        this.controller = cont;
+    }
+
+    @Override
+    public void youWin() {
+        message = "YOU WIN!";
+    }
+
+    @Override
+    public void youLose() {
+        message = "You lost... better try again! (n for a new game)";
+    }
+
+    @Override
+    public void displayNumberOfAdjacentBombs(int row, int column, int numAdjacent) {
+        squares[row][column] = numAdjacent;
+    }
+
+    @Override
+    public void setUnflagged(int row, int column) {
+        squares[row][column] = HIDDEN;
+        bombsRemaining++;
+    }
+
+    @Override
+    public void flagButton(int row, int column) {
+        squares[row][column] = FLAGGED;
+        bombsRemaining--;
+    }
+
+    @Override
+    public void resetGrid() {
+        squares = new int[controller.getHeight()][controller.getWidth()];
+        for (int[] row : squares) {
+            Arrays.fill(row, HIDDEN);
+        }
+        bombsRemaining = controller.getTotalNumberOfBombs();
+        message = "";
+        cursorRow = 0;
+        cursorColumn = 0;
+        viewTop = 0;
+        viewLeft = 0;
+        clearScreen();
+    }
+
+    /**
+     * Forgets what is on the terminal and clears it, so the next frame is drawn in full.
+     */
+    private void clearScreen() {
+        onScreen = new int[boardRows() * boardColumns()];
+        nextScreen = new int[onScreen.length];
+        Arrays.fill(onScreen, ' ');
+        statusOnScreen = null;
+        frame.append(ESC).append("0m").append(ESC).append("2J");
+    }
+
+    /**
+     * @return number of terminal rows used for the board, leaving one for the status line.
+     */
+    private int boardRows() {
+        return Math.max(1, screenRows - 1);
+    }
+
+    /**
+     * @return number of squares that fit across the terminal.
+     */
+    private int boardColumns() {
+        return Math.max(1, screenColumns / CELL_WIDTH);
+    }
+
+    /**
+     * Moves the cursor, scrolling the visible part of the board to keep the cursor on screen.
+     * @param rowChange rows to move.
+     * @param columnChange columns to move.
+     */
+    private void moveCursor(int rowChange, int columnChange) {
+        cursorRow = Math.max(0, Math.min(squares.length - 1, cursorRow + rowChange));
+        cursorColumn = Math.max(0, Math.min(squares[0].length - 1, cursorColumn + columnChange));
+        if (cursorRow < viewTop) {
+            viewTop = cursorRow;
+        } else if (cursorRow >= viewTop + boardRows()) {
+            viewTop = cursorRow - boardRows() + 1;
+        }
+        if (cursorColumn < viewLeft) {
+            viewLeft = cursorColumn;
+        } else if (cursorColumn >= viewLeft + boardColumns()) {
+            viewLeft = cursorColumn - boardColumns() + 1;
+        }
+    }
+
+    /**
+     * Works out how a square should look on screen, packed into one int: the character in the
+     * low byte, the ANSI color above it, and a bit for reverse video where the cursor is.
+     * @param row the row of the square.
+     * @param column the column of the square.
+     * @return the packed look of the square.
+     */
+    private int look(int row, int column) {
+        if (row >= squares.length || column >= squares[0].length) {
+            return ' ';
+        }
+        int square = squares[row][column];
+        int look;
+        if (square == HIDDEN) {
+            look = '#';
+        } else if (square == FLAGGED) {
+            look = 'F' | FLAG_COLOR << 8;
+        } else if (square == 0) {
+            look = '.';
+        } else {
+            look = ('0' + square) | NUMBER_COLORS[square] << 8;
+        }
+        if (row == cursorRow && column == cursorColumn) {
+            look |= REVERSE;
+        }
+        return look;
+    }
+
+    /**
+     * Draws a frame. Only squares whose look changed since the last frame are sent, each preceded by
+     * a cursor move unless it directly follows the last square sent, and the colors are only changed
+     * when they differ from the last square sent. The whole frame goes out in one write.
+     * @throws IOException if the terminal cannot be written to.
+     */
+    void render() throws IOException {
+        int rows = boardRows();
+        int columns = boardColumns();
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < columns; c++) {
+                nextScreen[r * columns + c] = look(viewTop + r, viewLeft + c);
+            }
+        }
+
+        int lastWritten = -2;
+        int lastStyle = -1;
+        for (int i = 0; i < nextScreen.length; i++) {
+            int look = nextScreen[i];
+            if (look == onScreen[i]) {
+                continue;
+            }
+            if (i != lastWritten + 1 || i % columns == 0) {
+                frame.append(ESC).append(i / columns + 1).append(';').append((i % columns) * CELL_WIDTH + 1).append('H');
+            }
+            int style = look >>> 8;
+            if (style != lastStyle) {
+                frame.append(ESC).append('0');
+                if ((look & REVERSE) != 0) {
+                    frame.append(";7");
+                }
+                int color = (look >>> 8) & 0x7f;
+                if (color != 0) {
+                    frame.append(';').append(color);
+                }
+                frame.append('m');
+                lastStyle = style;
+            }
+            frame.append((char) (look & 0xff)).append(' ');
+            lastWritten = i;
+        }
+        int[] swap = onScreen;
+        onScreen = nextScreen;
+        nextScreen = swap;
+
+        String status = "Bombs remaining: " + bombsRemaining + "   " + message;
+        if (!status.equals(statusOnScreen)) {
+            frame.append(ESC).append("0m").append(ESC).append(screenRows).append(";1H").append(ESC).append('K');
+            frame.append(status, 0, Math.min(status.length(), screenColumns));
+            statusOnScreen = status;
+        }
+
+        if (frame.length() > 0) {
+            out.write(frame.toString().getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            frame.setLength(0);
+        }
+    }
+
+    /**
+     * Reads one key, turning arrow keys into w/a/s/d and Page Up/Page Down into PAGE_UP/PAGE_DOWN.
+     * A bare Esc press is ignored without waiting for another key: if nothing follows it within a
+     * moment, it is not the start of an escape sequence.
+     * @param in the keyboard, in raw mode.
+     * @return the key, or -1 at the end of input.
+     * @throws IOException if the terminal cannot be read.
+     */
+    private int readKey(InputStream in) throws IOException {
+        int key = in.read();
+        if (key != 27) {
+            return key;
+        }
+        if (!waitForInput(in)) {
+            return 27;
+        }
+        key = in.read();
+        if (key != '[') {
+            return key;
+        }
+        key = in.read();
+        switch (key) {
+            case 'A':
+                return 'w';
+            case 'B':
+                return 's';
+            case 'C':
+                return 'd';
+            case 'D':
+                return 'a';
+            case '5':
+            case '6':
+                in.read();
+                return key == '5' ? PAGE_UP : PAGE_DOWN;
+            default:
+                return key;
+        }
+    }
+
+    /**
+     * Helper that waits briefly for more input, since the rest of an escape sequence can arrive a
+     * little after the Esc over a slow connection.
+     * @param in the keyboard.
+     * @return true if there is input waiting; false otherwise
+     * @throws IOException if the terminal cannot be read.
+     */
+    private static boolean waitForInput(InputStream in) throws IOException {
+        long giveUp = System.currentTimeMillis() + ESCAPE_WAIT_MILLIS;
+        while (in.available() == 0) {
+            if (System.currentTimeMillis() >= giveUp) {
+                return false;
+            }
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Scrolls the visible part of the board by whole screens, moving the cursor along with it so it
+     * stays in the same place on screen.
+     * @param rowPages screens to scroll down (negative for up).
+     * @param columnPages screens to scroll right (negative for left).
+     */
+    private void scrollPage(int rowPages, int columnPages) {
+        int newTop = Math.max(0, Math.min(Math.max(0, squares.length - boardRows()), viewTop + rowPages * boardRows()));
+        int newLeft = Math.max(0, Math.min(Math.max(0, squares[0].length - boardColumns()), viewLeft + columnPages * boardColumns()));
+        int rowShift = newTop - viewTop;
+        int columnShift = newLeft - viewLeft;
+        viewTop = newTop;
+        viewLeft = newLeft;
+        if (rowShift == 0 && columnShift == 0) {
+            moveCursor(rowPages * boardRows(), columnPages * boardColumns());
+        } else {
+            moveCursor(rowShift, columnShift);
+        }
+    }
+
+    /**
+     * @return the row the cursor is on.
+     */
+    int getCursorRow() {
+        return cursorRow;
+    }
+
+    /**
+     * @return the column the cursor is on.
+     */
+    int getCursorColumn() {
+        return cursorColumn;
+    }
+
+    /**
+     * @return the first row of the board shown on screen.
+     */
+    int getViewTop() {
+        return viewTop;
+    }
+
+    /**
+     * @return the first column of the board shown on screen.
+     */
+    int getViewLeft() {
+        return viewLeft;
+    }
+
+    /**
+     * Reads keys and plays until q is pressed.
+     * @param in the keyboard, in raw mode.
+     * @param difficultyLevel difficulty for new games.
+     * @throws IOException if the terminal cannot be read or written.
+     */
+    void play(InputStream in, int difficultyLevel) throws IOException {
+        Random seeds = new Random();
+        render();
+        int key;
+        while ((key = readKey(in)) != -1 && key != 'q') {
+            switch (key) {
+                case 'w':
+                    moveCursor(-1, 0);
+                    break;
+                case 's':
+                    moveCursor(1, 0);
+                    break;
+                case 'a':
+                    moveCursor(0, -1);
+                    break;
+                case 'd':
+                    moveCursor(0, 1);
+                    break;
+                case 'K':
+                case PAGE_UP:
+                    scrollPage(-1, 0);
+                    break;
+                case 'J':
+                case PAGE_DOWN:
+                    scrollPage(1, 0);
+                    break;
+                case 'H':
+                    scrollPage(0, -1);
+                    break;
+                case 'L':
+                    scrollPage(0, 1);
+                    break;
+                case ' ':
+                case '\r':
+                case '\n':
+                    controller.buttonPressed(cursorRow, cursorColumn);
+                    break;
+                case 'f':
+                    if (squares[cursorRow][cursorColumn] < 0) {
+                        controller.flagButton(cursorRow, cursorColumn);
+                    }
+                    break;
+                case 'n':
+                    controller.newGame(squares.length, squares[0].length, difficultyLevel, seeds.nextLong());
+                    break;
+                default:
+                    break;
+            }
+            render();
+        }
+    }
+
+    /**
+     * Runs a shell command against the terminal, for stty.
+     * @param command the command.
+     * @return what the command printed.
+     * @throws IOException if the command cannot be run.
+     */
+    private static String tty(String command) throws IOException {
+        Process process = new ProcessBuilder("sh", "-c", command + " < /dev/tty").redirectErrorStream(true).start();
+        try {
+            String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+            process.waitFor();
+            return output;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while running " + command, e);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        int height = 15;
+        int width = 20;
+        int difficultyLevel = 0;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--size":
+                    String[] dimensions = value.split("x");
+                    height = Integer.parseInt(dimensions[0]);
+                    width = Integer.parseInt(dimensions[1]);
+                    break;
+                case "--difficulty":
+                    difficultyLevel = Integer.parseInt(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        int screenRows = 24;
+        int screenColumns = 80;
+        String[] size = tty("stty size").split("\\s+");
+        if (size.length == 2 && size[0].matches("\\d+") && size[1].matches("\\d+")) {
+            screenRows = Integer.parseInt(size[0]);
+            screenColumns = Integer.parseInt(size[1]);
+        }
+
+        OutputStream out = new FileOutputStream(FileDescriptor.out);
+        String savedSettings = tty("stty -g");
+        tty("stty raw -echo");
+        out.write((ESC + "?1049h" + ESC + "?25l").getBytes(StandardCharsets.UTF_8));
+        try {
+            GameMetrics.register();
+            TerminalView view = new TerminalView(out, screenRows, screenColumns);
+            MinesweeperController controller = new MinesweeperController(view);
+            view.setController(controller);
+            controller.newGame(height, width, difficultyLevel, new Random().nextLong());
+            view.play(System.in, difficultyLevel);
+        } finally {
+            out.write((ESC + "0m" + ESC + "?25h" + ESC + "?1049l").getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            tty("stty " + savedSettings);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package minesweeper;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Precomputed neighbors of every square for one board shape. The neighbors of all squares are kept
+ * back to back in two flat arrays (their rows and their columns), with an offset table saying where
+ * each square's neighbors start, so a neighbor loop is a plain run over an array with no bounds checks
+ * and no allocation:
+ * <pre>
+ *     for (int k = topology.firstNeighbor(row, col); k &lt; topology.endNeighbor(row, col); k++) {
+ *         ... topology.neighborRow(k), topology.neighborColumn(k) ...
+ *     }
+ * </pre>
+ * On a wrap-around (toroidal) board the edges join up, so every square has the same number of
+ * neighbors, and the loop is exactly as cheap. Topologies never change once built and are shared
+ * between every board of the same shape.
+ */
+public final class Topology {
+    private static final int MAX_CACHED = 64;
+    private static final Map<Long, Topology> CACHE = new ConcurrentHashMap<>();
+    private static volatile Topology lastUsed;
+
+    private final int height;
+    private final int width;
+    private final boolean wrapAround;
+    private final int[] neighborStart;
+    private final int[] neighborRows;
+    private final int[] neighborColumns;
+
+    /**
+     * constructor
+     * @param height number of rows on the board.
+     * @param width number of columns on the board.
+     * @param wrapAround true if the edges of the board join up.
+     */
+    private Topology(int height, int width, boolean wrapAround) {
+        this.height = height;
+        this.width = width;
+        this.wrapAround = wrapAround;
+        this.neighborStart = new int[height * width + 1];
+        int[] rows = new int[height * width * 8];
+        int[] columns = new int[height * width * 8];
+        int count = 0;
+        for (int row = 0; row < height; row++) {
+            for (int col = 0; col < width; col++) {
+                int first = count;
+                for (int x = row - 1; x <= row + 1; x++) {
+                    for (int y = col - 1; y <= col + 1; y++) {
+                        int neighborRow = x;
+                        int neighborCol = y;
+                        if (wrapAround) {
+                            neighborRow = (x + height) % height;
+                            neighborCol = (y + width) % width;
+                        } else if (x < 0 || x >= height || y < 0 || y >= width) {
+                            continue;
+                        }
+                        if ((neighborRow == row && neighborCol == col)
+                                || contains(rows, columns, first, count, neighborRow, neighborCol)) {
+                            continue;
+                        }
+                        rows[count] = neighborRow;
+                        columns[count] = neighborCol;
+                        count++;
+                    }
+                }
+                neighborStart[row * width + col + 1] = count;
+            }
+        }
+        this.neighborRows = Arrays.copyOf(rows, count);
+        this.neighborColumns = Arrays.copyOf(columns, count);
+    }
+
+    /**
+     * Helper function that checks if a square is already among the neighbors found so far, which
+     * only happens when a wrap-around board is less than three squares across.
+     * @param rows neighbor rows found so far.
+     * @param columns neighbor columns found so far.
+     * @param from first neighbor of the current square.
+     * @param to end of the neighbors found so far.
+     * @param row row of the square to look for.
+     * @param col column of the square to look for.
+     * @return true if already found; false otherwise
+     */
+    private static boolean contains(int[] rows, int[] columns, int from, int to, int row, int col) {
+        for (int k = from; k < to; k++) {
+            if (rows[k] == row && columns[k] == col) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the topology for a board shape, building it the first time the shape is asked for. Asking
+     * for the same shape as last time is just a comparison. At most MAX_CACHED shapes are kept; boards
+     * already built keep their own topology when the cache is emptied.
+     * @param height number of rows on the board.
+     * @param width number of columns on the board.
+     * @param wrapAround true if the edges of the board join up.
+     * @return the topology.
+     */
+    public static Topology of(int height, int width, boolean wrapAround) {
+        Topology last = lastUsed;
+        if (last != null && last.height == height && last.width == width && last.wrapAround == wrapAround) {
+            return last;
+        }
+        long key = (long) height << 32 | (long) width << 1 | (wrapAround ? 1 : 0);
+        Topology topology = CACHE.get(key);
+        if (topology == null) {
+            if (CACHE.size() >= MAX_CACHED) {
+                CACHE.clear();
+            }
+            topology = CACHE.computeIfAbsent(key, shape -> new Topology(height, width, wrapAround));
+        }
+        lastUsed = topology;
+        return topology;
+    }
+
+    /**
+     * @return number of rows on the board.
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * @return number of columns on the board.
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * @return true if the edges of the board join up.
+     */
+    public boolean isWrapAround() {
+        return wrapAround;
+    }
+
+    /**
+     * Gets where a square's neighbors start in the neighbor arrays.
+     * @param row the row of the square.
+     * @param col the column of the square.
+     * @return index of the square's first neighbor.
+     */
+    public int firstNeighbor(int row, int col) {
+        return neighborStart[row * width + col];
+    }
+
+    /**
+     * Gets where a square's neighbors end in the neighbor arrays.
+     * @param row the row of the square.
+     * @param col the column of the square.
+     * @return index just past the square's last neighbor.
+     */
+    public int endNeighbor(int row, int col) {
+        return neighborStart[row * width + col + 1];
+    }
+
+    /**
+     * @param k index in the neighbor arrays.
+     * @return row of that neighbor.
+     */
+    public int neighborRow(int k) {
+        return neighborRows[k];
+    }
+
+    /**
+     * @param k index in the neighbor arrays.
+     * @return column of that neighbor.
+     */
+    public int neighborColumn(int k) {
+        return neighborColumns[k];
+    }
+}
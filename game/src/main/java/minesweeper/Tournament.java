@@ -0,0 +1,299 @@
+package minesweeper;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.LongFunction;
+
+/**
+ * Pits players against each other on the same seeded boards, using every core. The boards are
+ * generated once and only ever read afterwards; each game plays on its own copy, so generation is
+ * not repeated for every player. Prints each player's win rate and average time per move, best first.
+ *
+ * Options (all optional): --games N, --size HxW, --difficulty D, --seed S, --threads N
+ */
+public class Tournament {
+    private final Map<String, LongFunction<Player>> players = new LinkedHashMap<>();
+    private final List<MineField> boards = new ArrayList<>();
+    private final int threads;
+
+    /**
+     * constructor
+     * @param threads number of games to play at once.
+     */
+    public Tournament(int threads) {
+        this.threads = threads;
+    }
+
+    /**
+     * Adds a player to the tournament.
+     * @param name the name to show in the results.
+     * @param factory makes a new player for a game, given the seed of the board.
+     */
+    public void addPlayer(String name, LongFunction<Player> factory) {
+        players.put(name, factory);
+    }
+
+    /**
+     * Generates the boards every player will play on.
+     * @param games number of boards.
+     * @param height number of rows on each board.
+     * @param width number of columns on each board.
+     * @param difficultyLevel difficulty of each board.
+     * @param firstSeed seed of the first board; the rest follow on from it.
+     */
+    public void generateBoards(int games, int height, int width, int difficultyLevel, long firstSeed) {
+        boards.clear();
+        for (int i = 0; i < games; i++) {
+            boards.add(new MineField(height, width, difficultyLevel, firstSeed + i));
+        }
+    }
+
+    /**
+     * Plays every player on every board.
+     * @return the results for each player, best first.
+     * @throws InterruptedException if interrupted while waiting for games to finish.
+     */
+    public List<Result> run() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Result> results = new ArrayList<>();
+            for (Map.Entry<String, LongFunction<Player>> entry : players.entrySet()) {
+                List<Future<Result>> parts = new ArrayList<>();
+                int chunk = (boards.size() + threads - 1) / threads;
+                for (int start = 0; start < boards.size(); start += chunk) {
+                    int from = start;
+                    int to = Math.min(boards.size(), start + chunk);
+                    parts.add(executor.submit(() -> playBoards(entry.getKey(), entry.getValue(), from, to)));
+                }
+                Result total = new Result(entry.getKey());
+                for (Future<Result> part : parts) {
+                    total.add(part.get());
+                }
+                results.add(total);
+            }
+            Collections.sort(results, Comparator.comparingDouble(Result::getWinRate).reversed()
+                    .thenComparingDouble(Result::getAverageMoveMicros));
+            return results;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A game failed", e.getCause());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Plays one player on a range of the boards.
+     * @param name the name of the player.
+     * @param factory makes the player for each game.
+     * @param from index of the first board.
+     * @param to index after the last board.
+     * @return the results for that range.
+     */
+    private Result playBoards(String name, LongFunction<Player> factory, int from, int to) {
+        Result result = new Result(name);
+        OutcomeDisplay display = new OutcomeDisplay();
+        MinesweeperController controller = null;
+        for (int i = from; i < to; i++) {
+            MineField board = boards.get(i);
+            MineField field = new MineField(board);
+            if (controller == null) {
+                controller = new MinesweeperController(display, field);
+            }
+            VisibleBoard visible = new VisibleBoard(field);
+            Player player = factory.apply(board.getSeed());
+            controller.newGame(field);
+
+            int moveLimit = 4 * field.getHeight() * field.getWidth();
+            int moves = 0;
+            long start = System.nanoTime();
+            while (!display.won && !display.lost && moves < moveLimit) {
+                Move move = player.nextMove(visible);
+                if (move.isFlag()) {
+                    controller.flagButton(move.getRow(), move.getColumn());
+                } else {
+                    controller.buttonPressed(move.getRow(), move.getColumn());
+                }
+                moves++;
+            }
+            result.addGame(display.won, moves, System.nanoTime() - start);
+        }
+        return result;
+    }
+
+    /**
+     * Prints the results as a table.
+     * @param results the results, best first.
+     */
+    public static void printResults(List<Result> results) {
+        System.out.printf(Locale.ROOT, "%-4s %-20s %8s %8s %10s %16s%n", "rank", "player", "games", "wins", "win rate", "us per move");
+        int rank = 1;
+        for (Result result : results) {
+            System.out.printf(Locale.ROOT, "%-4d %-20s %8d %8d %9.1f%% %16.2f%n", rank++, result.getName(),
+                    result.getGames(), result.getWins(), 100 * result.getWinRate(), result.getAverageMoveMicros());
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int games = 10000;
+        int height = 15;
+        int width = 20;
+        int difficultyLevel = 0;
+        long seed = 257;
+        int threads = Runtime.getRuntime().availableProcessors();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--games":
+                    games = Integer.parseInt(value);
+                    break;
+                case "--size":
+                    String[] dimensions = value.split("x");
+                    height = Integer.parseInt(dimensions[0]);
+                    width = Integer.parseInt(dimensions[1]);
+                    break;
+                case "--difficulty":
+                    difficultyLevel = Integer.parseInt(value);
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(value);
+                    break;
+                case "--threads":
+                    threads = Integer.parseInt(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        Tournament tournament = new Tournament(threads);
+        tournament.addPlayer("random", RandomPlayer::new);
+        tournament.addPlayer("single point", SinglePointPlayer::new);
+        tournament.generateBoards(games, height, width, difficultyLevel, seed);
+        printResults(tournament.run());
+    }
+
+    /**
+     * Wins, games and move times for one player.
+     */
+    public static class Result {
+        private final String name;
+        private int games;
+        private int wins;
+        private long moves;
+        private long nanos;
+
+        /**
+         * constructor
+         * @param name the name of the player.
+         */
+        Result(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Records one game.
+         * @param won true if the player won.
+         * @param gameMoves number of moves in the game.
+         * @param gameNanos time spent on the game's moves.
+         */
+        void addGame(boolean won, int gameMoves, long gameNanos) {
+            games++;
+            if (won) {
+                wins++;
+            }
+            moves += gameMoves;
+            nanos += gameNanos;
+        }
+
+        /**
+         * Adds in the games from another part of the tournament.
+         * @param other the other results for the same player.
+         */
+        void add(Result other) {
+            games += other.games;
+            wins += other.wins;
+            moves += other.moves;
+            nanos += other.nanos;
+        }
+
+        /**
+         * @return the name of the player.
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return number of games played.
+         */
+        public int getGames() {
+            return games;
+        }
+
+        /**
+         * @return number of games won.
+         */
+        public int getWins() {
+            return wins;
+        }
+
+        /**
+         * @return fraction of games won.
+         */
+        public double getWinRate() {
+            return games == 0 ? 0 : (double) wins / games;
+        }
+
+        /**
+         * @return average time per move, including the controller applying it, in microseconds.
+         */
+        public double getAverageMoveMicros() {
+            return moves == 0 ? 0 : nanos / 1000.0 / moves;
+        }
+    }
+
+    /**
+     * Display that only remembers whether the game was won or lost.
+     */
+    private static class OutcomeDisplay implements MinesweeperDisplay {
+        private boolean won;
+        private boolean lost;
+
+        @Override
+        public void youWin() {
+            won = true;
+        }
+
+        @Override
+        public void youLose() {
+            lost = true;
+        }
+
+        @Override
+        public void displayNumberOfAdjacentBombs(int row, int column, int numAdjacent) {
+        }
+
+        @Override
+        public void setUnflagged(int row, int column) {
+        }
+
+        @Override
+        public void flagButton(int row, int column) {
+        }
+
+        @Override
+        public void resetGrid() {
+            won = false;
+            lost = false;
+        }
+    }
+}
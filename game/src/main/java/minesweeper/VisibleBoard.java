@@ -0,0 +1,79 @@
+package minesweeper;
+
+/**
+ * What a player can see of a minefield: its size, the number of bombs, which squares are
+ * revealed or flagged, and the numbers on the revealed squares. Hidden squares give nothing away.
+ */
+public final class VisibleBoard {
+    private final MineField field;
+
+    /**
+     * constructor
+     * @param field the minefield being played.
+     */
+    VisibleBoard(MineField field) {
+        this.field = field;
+    }
+
+    /**
+     * @return number of rows on the board.
+     */
+    public int getHeight() {
+        return field.getHeight();
+    }
+
+    /**
+     * @return number of columns on the board.
+     */
+    public int getWidth() {
+        return field.getWidth();
+    }
+
+    /**
+     * @return which squares are next to which on the board.
+     */
+    public Topology getTopology() {
+        return field.getTopology();
+    }
+
+    /**
+     * @return number of bombs on the whole board.
+     */
+    public int getTotalNumberOfBombs() {
+        return field.getTotalNumberOfBombs();
+    }
+
+    /**
+     * checks if a square has been revealed
+     * @param row the row of the square.
+     * @param column the column of the square.
+     * @return true if revealed; false otherwise
+     */
+    public boolean isRevealed(int row, int column) {
+        return field.isRevealed(row, column);
+    }
+
+    /**
+     * checks if a square has been flagged
+     * @param row the row of the square.
+     * @param column the column of the square.
+     * @return true if flagged; false otherwise
+     */
+    public boolean isFlagged(int row, int column) {
+        return field.isFlagged(row, column);
+    }
+
+    /**
+     * gets the number shown on a revealed square
+     * @param row the row of the square.
+     * @param column the column of the square.
+     * @return number of bombs adjacent to the square
+     * @throws IllegalStateException if the square has not been revealed
+     */
+    public int getNumberOfAdjacentBombs(int row, int column) {
+        if (!field.isRevealed(row, column)) {
+            throw new IllegalStateException("Square (" + row + ", " + column + ") has not been revealed");
+        }
+        return field.getNumberOfAdjacentBombs(row, column);
+    }
+}
@@ -0,0 +1,175 @@
+package minesweeper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class GameMetricsTest {
+    private static final int HEIGHT = 15;
+    private static final int WIDTH = 20;
+    private static final long SEED = 257L;
+
+    @TempDir
+    Path dir;
+
+    private MineField field;
+    private MinesweeperController controller;
+
+    @BeforeEach
+    void setUp() {
+        field = new MineField(HEIGHT, WIDTH, 0, SEED);
+        controller = new MinesweeperController(new QuietDisplay());
+        controller.newGame(field);
+        GameMetrics.get().reset();
+    }
+
+    /**
+     * @return the zero square whose opening is biggest, as {row, column, squares in the opening}.
+     */
+    private int[] biggestOpening() {
+        int[] best = null;
+        for (int row = 0; row < HEIGHT; row++) {
+            for (int col = 0; col < WIDTH; col++) {
+                if (!field.isBomb(row, col) && field.getNumberOfAdjacentBombs(row, col) == 0) {
+                    int squares = openingSize(row, col);
+                    if (best == null || squares > best[2]) {
+                        best = new int[] {row, col, squares};
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Counts the squares a click reveals: the square, and through every zero the squares around it.
+     */
+    private int openingSize(int row, int col) {
+        boolean[][] reached = new boolean[HEIGHT][WIDTH];
+        Deque<int[]> pending = new ArrayDeque<>();
+        pending.push(new int[] {row, col});
+        reached[row][col] = true;
+        int squares = 0;
+        while (!pending.isEmpty()) {
+            int[] square = pending.pop();
+            squares++;
+            if (field.getNumberOfAdjacentBombs(square[0], square[1]) != 0) {
+                continue;
+            }
+            for (int x = square[0] - 1; x <= square[0] + 1; x++) {
+                for (int y = square[1] - 1; y <= square[1] + 1; y++) {
+                    if (x >= 0 && x < HEIGHT && y >= 0 && y < WIDTH && !reached[x][y]) {
+                        reached[x][y] = true;
+                        pending.push(new int[] {x, y});
+                    }
+                }
+            }
+        }
+        return squares;
+    }
+
+    private int[] bomb(int skip) {
+        for (int row = 0; row < HEIGHT; row++) {
+            for (int col = 0; col < WIDTH; col++) {
+                if (field.isBomb(row, col) && skip-- == 0) {
+                    return new int[] {row, col};
+                }
+            }
+        }
+        throw new IllegalStateException("not enough bombs");
+    }
+
+    @Test
+    void cascadeIsCountedOnceWithEverySquareItRevealed() {
+        int[] opening = biggestOpening();
+        assertTrue(opening[2] > 1);
+        controller.buttonPressed(opening[0], opening[1]);
+        GameMetrics metrics = GameMetrics.get();
+        assertEquals(opening[2], metrics.getReveals());
+        assertEquals(1, metrics.getCascades());
+        assertEquals(opening[2], metrics.getLargestCascade());
+        assertEquals(opening[2], metrics.getAverageCascadeSize());
+        assertEquals(opening[2], metrics.getViewUpdates());
+
+        // clicking a revealed square again reveals nothing and is not a cascade
+        controller.buttonPressed(opening[0], opening[1]);
+        assertEquals(opening[2], metrics.getReveals());
+        assertEquals(1, metrics.getCascades());
+    }
+
+    @Test
+    void revealRateDoesNotMoveInsideAWindow() {
+        controller.buttonPressed(biggestOpening()[0], biggestOpening()[1]);
+        assertEquals(0, GameMetrics.get().getRevealsPerSecond());
+        assertEquals(0, GameMetrics.get().getRevealsPerSecond());
+    }
+
+    @Test
+    void onlyTheLosingClickHitsABomb() throws IOException {
+        int[] opening = biggestOpening();
+        int[] first = bomb(0);
+        int[] second = bomb(1);
+        Path file = dir.resolve("clicks.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("minesweeper.ButtonPressed").withoutThreshold();
+            recording.start();
+            controller.buttonPressed(opening[0], opening[1]);
+            controller.buttonPressed(first[0], first[1]);
+            controller.buttonPressed(second[0], second[1]);
+            recording.stop();
+            recording.dump(file);
+        }
+        List<RecordedEvent> clicks = RecordingFile.readAllEvents(file);
+        clicks.sort(Comparator.comparing(RecordedEvent::getStartTime));
+        assertEquals(3, clicks.size());
+        assertFalse(clicks.get(0).getBoolean("hitBomb"));
+        assertEquals(opening[2], clicks.get(0).getInt("squaresRevealed"));
+        assertTrue(clicks.get(1).getBoolean("hitBomb"));
+        assertEquals(first[0], clicks.get(1).getInt("row"));
+        assertFalse(clicks.get(2).getBoolean("hitBomb"));
+        assertEquals(second[0] * WIDTH + second[1], clicks.get(2).getInt("row") * WIDTH + clicks.get(2).getInt("column"));
+    }
+
+    /**
+     * Display that shows nothing.
+     */
+    private static class QuietDisplay implements MinesweeperDisplay {
+        @Override
+        public void youWin() {
+        }
+
+        @Override
+        public void youLose() {
+        }
+
+        @Override
+        public void displayNumberOfAdjacentBombs(int row, int column, int numAdjacent) {
+        }
+
+        @Override
+        public void setUnflagged(int row, int column) {
+        }
+
+        @Override
+        public void flagButton(int row, int column) {
+        }
+
+        @Override
+        public void resetGrid() {
+        }
+    }
+}
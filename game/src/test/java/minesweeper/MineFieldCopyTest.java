@@ -0,0 +1,36 @@
+package minesweeper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class MineFieldCopyTest {
+
+    @Test
+    void copyHasSameBombsButNoneOfThePlay() {
+        MineField template = new MineField(15, 20, 1, 99L);
+        template.setFlag(0, 0);
+        template.setCubicleAsRevealed(1, 1);
+        MineField copy = new MineField(template);
+        for (int row = 0; row < 15; row++) {
+            for (int col = 0; col < 20; col++) {
+                assertEquals(template.isBomb(row, col), copy.isBomb(row, col));
+                assertEquals(template.getNumberOfAdjacentBombs(row, col), copy.getNumberOfAdjacentBombs(row, col));
+                assertFalse(copy.isFlagged(row, col));
+                assertFalse(copy.isRevealed(row, col));
+            }
+        }
+        assertEquals(template.getSeed(), copy.getSeed());
+    }
+
+    @Test
+    void hibernatingTemplateIsRejectedAndLeftAsleep() {
+        MineField template = new MineField(15, 20, 0, 1L);
+        template.hibernate();
+        assertThrows(IllegalStateException.class, () -> new MineField(template));
+        assertTrue(template.isHibernated());
+    }
+}
@@ -0,0 +1,144 @@
+package minesweeper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class MineFieldHibernationTest {
+
+    @Test
+    void roundTripKeepsBoardState() {
+        assertRoundTrip(new MineField(15, 20, 1, 42L), new MineField(15, 20, 1, 42L), false);
+    }
+
+    @Test
+    void roundTripKeepsBoardStateOnWrapAroundBoard() {
+        assertRoundTrip(new MineField(9, 13, 2, 7L, true), new MineField(9, 13, 2, 7L, true), false);
+    }
+
+    @Test
+    void roundTripKeepsLoss() {
+        assertRoundTrip(new MineField(15, 20, 0, 3L), new MineField(15, 20, 0, 3L), true);
+    }
+
+    @Test
+    void roundTripOfUntouchedAndFullyRevealedBoards() {
+        MineField untouched = new MineField(6, 6, 0, 11L);
+        untouched.hibernate();
+        for (int row = 0; row < 6; row++) {
+            for (int col = 0; col < 6; col++) {
+                assertFalse(untouched.isRevealed(row, col));
+                assertFalse(untouched.isFlagged(row, col));
+            }
+        }
+
+        MineField revealed = new MineField(6, 6, 0, 11L);
+        for (int row = 0; row < 6; row++) {
+            for (int col = 0; col < 6; col++) {
+                revealed.setCubicleAsRevealed(row, col);
+            }
+        }
+        revealed.hibernate();
+        for (int row = 0; row < 6; row++) {
+            for (int col = 0; col < 6; col++) {
+                assertTrue(revealed.isRevealed(row, col));
+            }
+        }
+    }
+
+    @Test
+    void wakesOnNextAccess() {
+        MineField field = new MineField(15, 20, 0, 5L);
+        assertFalse(field.isHibernated());
+        assertEquals(0, field.getHibernatedBytesSaved());
+        field.hibernate();
+        assertTrue(field.isHibernated());
+        assertTrue(field.getHibernatedBytesSaved() > 0);
+        field.isRevealed(0, 0);
+        assertFalse(field.isHibernated());
+    }
+
+    @Test
+    void idleControllerHibernatesAndReportsSaving() {
+        MinesweeperController controller = new MinesweeperController(new NoOpDisplay());
+        controller.newGame(15, 20, 0, 1L);
+        controller.setIdleHibernateMillis(Long.MAX_VALUE);
+        assertEquals(0, controller.hibernateIfIdle());
+        controller.setIdleHibernateMillis(-1);
+        long before = GameMetrics.get().getHibernatedBytesSaved();
+        long saved = controller.hibernateIfIdle();
+        assertTrue(saved > 0);
+        assertEquals(before + saved, GameMetrics.get().getHibernatedBytesSaved());
+        assertEquals(0, controller.hibernateIfIdle());
+    }
+
+    /**
+     * Plays some random flags and reveals on a field, hibernates it, and checks it matches an
+     * identically played field that was never hibernated.
+     */
+    private static void assertRoundTrip(MineField field, MineField reference, boolean lose) {
+        Random random = new Random(1);
+        for (int i = 0; i < 80; i++) {
+            int row = random.nextInt(field.getHeight());
+            int col = random.nextInt(field.getWidth());
+            if (i % 3 == 0) {
+                field.setFlag(row, col);
+                reference.setFlag(row, col);
+            } else {
+                field.setCubicleAsRevealed(row, col);
+                reference.setCubicleAsRevealed(row, col);
+            }
+        }
+        if (lose) {
+            field.userLost();
+            reference.userLost();
+        }
+
+        field.hibernate();
+        assertTrue(field.isHibernated());
+        for (int row = 0; row < field.getHeight(); row++) {
+            for (int col = 0; col < field.getWidth(); col++) {
+                assertEquals(reference.isBomb(row, col), field.isBomb(row, col));
+                assertEquals(reference.isRevealed(row, col), field.isRevealed(row, col));
+                assertEquals(reference.isFlagged(row, col), field.isFlagged(row, col));
+                assertEquals(reference.getNumberOfAdjacentBombs(row, col), field.getNumberOfAdjacentBombs(row, col));
+            }
+        }
+        assertEquals(reference.hasUserLost(), field.hasUserLost());
+        assertFalse(field.isHibernated());
+    }
+
+    /**
+     * Display that ignores everything.
+     */
+    private static class NoOpDisplay implements MinesweeperDisplay {
+
+        @Override
+        public void youWin() {
+        }
+
+        @Override
+        public void youLose() {
+        }
+
+        @Override
+        public void displayNumberOfAdjacentBombs(int row, int column, int numAdjacent) {
+        }
+
+        @Override
+        public void setUnflagged(int row, int column) {
+        }
+
+        @Override
+        public void flagButton(int row, int column) {
+        }
+
+        @Override
+        public void resetGrid() {
+        }
+    }
+}
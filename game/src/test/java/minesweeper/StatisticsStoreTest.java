@@ -0,0 +1,203 @@
+package minesweeper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class StatisticsStoreTest {
+    private static final int HEADER_BYTES = 8;
+
+    @TempDir
+    Path dir;
+
+    private static GameRecord game(long durationMillis, int difficultyLevel, boolean won) {
+        return new GameRecord(1_700_000_000_000L, durationMillis, durationMillis, 10, 15, 20, difficultyLevel, won);
+    }
+
+    @Test
+    void newFileGetsAHeaderAndNoGames() throws IOException {
+        Path path = dir.resolve("sub").resolve("games.dat");
+        try (StatisticsStore store = StatisticsStore.open(path)) {
+            assertEquals(0, store.getGameCount());
+        }
+        assertEquals(HEADER_BYTES, Files.size(path));
+        try (StatisticsStore store = StatisticsStore.open(path)) {
+            assertEquals(0, store.getGameCount());
+        }
+    }
+
+    @Test
+    void fileWithoutTheMagicIsRejectedAndLeftAlone() throws IOException {
+        Path path = dir.resolve("games.dat");
+        byte[] other = "not a statistics file".getBytes();
+        Files.write(path, other);
+        assertThrows(IOException.class, () -> StatisticsStore.open(path));
+        assertEquals(other.length, Files.size(path));
+    }
+
+    @Test
+    void tornRecordIsDropped() throws IOException {
+        Path path = dir.resolve("games.dat");
+        try (StatisticsStore store = StatisticsStore.open(path)) {
+            store.append(game(3000, 0, true));
+            store.append(game(2000, 0, true));
+        }
+        Files.write(path, new byte[GameRecord.BYTES - 1], StandardOpenOption.APPEND);
+        try (StatisticsStore store = StatisticsStore.open(path)) {
+            assertEquals(2, store.getGameCount());
+            assertEquals(HEADER_BYTES + 2L * GameRecord.BYTES, Files.size(path));
+            store.append(game(1000, 0, true));
+            assertEquals(3000, store.getBestTimes(0, 3).get(2).getDurationMillis());
+        }
+        try (StatisticsStore store = StatisticsStore.open(path)) {
+            assertEquals(3, store.getGameCount());
+            assertEquals(1000, store.getBestTimes(0, 1).get(0).getDurationMillis());
+        }
+    }
+
+    @Test
+    void leaderboardKeepsTheFastestWinsInOrder() throws IOException {
+        Path path = dir.resolve("games.dat");
+        Random random = new Random(257);
+        List<Long> wins = new ArrayList<>();
+        try (StatisticsStore store = StatisticsStore.open(path)) {
+            for (int i = 0; i < 3 * StatisticsStore.LEADERBOARD_SIZE; i++) {
+                long duration = random.nextInt(100_000);
+                boolean won = random.nextBoolean();
+                store.append(game(duration, 1, won));
+                if (won) {
+                    wins.add(duration);
+                }
+                // faster than anything, but at another difficulty or lost
+                store.append(game(0, 2, true));
+                store.append(game(0, 1, false));
+            }
+            wins.sort(null);
+            assertTrue(wins.size() > StatisticsStore.LEADERBOARD_SIZE);
+            assertLeaderboard(wins.subList(0, StatisticsStore.LEADERBOARD_SIZE), store);
+        }
+        try (StatisticsStore store = StatisticsStore.open(path)) {
+            assertLeaderboard(wins.subList(0, StatisticsStore.LEADERBOARD_SIZE), store);
+            assertEquals(10, store.getBestTimes(1, 10).size());
+            assertTrue(store.getBestTimes(0, 10).isEmpty());
+        }
+    }
+
+    private static void assertLeaderboard(List<Long> expected, StatisticsStore store) throws IOException {
+        List<GameRecord> best = store.getBestTimes(1, StatisticsStore.LEADERBOARD_SIZE + 1);
+        assertEquals(expected.size(), best.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals((long) expected.get(i), best.get(i).getDurationMillis());
+            assertTrue(best.get(i).isWon());
+        }
+    }
+
+    @Test
+    void tiedTimesKeepTheEarlierWin() throws IOException {
+        try (StatisticsStore store = StatisticsStore.open(dir.resolve("games.dat"))) {
+            for (int i = 0; i <= StatisticsStore.LEADERBOARD_SIZE; i++) {
+                store.append(new GameRecord(i, i, 500, 10, 15, 20, 0, true));
+            }
+            List<GameRecord> best = store.getBestTimes(0, StatisticsStore.LEADERBOARD_SIZE);
+            assertEquals(0, best.get(0).getSeed());
+            assertEquals(StatisticsStore.LEADERBOARD_SIZE - 1, best.get(best.size() - 1).getSeed());
+        }
+    }
+
+    @Test
+    void rollingWinRateWindowEdges() throws IOException {
+        try (StatisticsStore store = StatisticsStore.open(dir.resolve("games.dat"))) {
+            assertEquals(0, store.getRollingWinRate(10));
+            assertEquals(0, store.getRollingWinRate(0, 10));
+            // won, lost, won, won at difficulty 0, with a loss at difficulty 1 in between
+            store.append(game(100, 0, true));
+            store.append(game(100, 0, false));
+            store.append(game(100, 1, false));
+            store.append(game(100, 0, true));
+            store.append(game(100, 0, true));
+
+            assertEquals(0, store.getRollingWinRate(0));
+            assertEquals(0, store.getRollingWinRate(0, -1));
+            assertEquals(1.0, store.getRollingWinRate(0, 1));
+            assertEquals(1.0, store.getRollingWinRate(0, 2));
+            assertEquals(2 / 3.0, store.getRollingWinRate(0, 3), 1e-9);
+            assertEquals(0.75, store.getRollingWinRate(0, 4));
+            assertEquals(0.75, store.getRollingWinRate(0, 1000));
+            assertEquals(0, store.getRollingWinRate(1, 1));
+            assertEquals(2 / 3.0, store.getRollingWinRate(3), 1e-9);
+            assertEquals(0.6, store.getRollingWinRate(5));
+            assertEquals(0.6, store.getRollingWinRate(Integer.MAX_VALUE));
+            assertEquals(0, store.getRollingWinRate(2, 10));
+        }
+    }
+
+    @Test
+    void storesSharingAFileDoNotOverwriteEachOther() throws IOException {
+        Path path = dir.resolve("games.dat");
+        try (StatisticsStore first = StatisticsStore.open(path);
+             StatisticsStore second = StatisticsStore.open(path)) {
+            first.append(game(3000, 0, true));
+            second.append(game(2000, 0, true));
+            first.append(game(1000, 0, false));
+            assertEquals(3, first.getGameCount());
+            assertEquals(2, second.getGameCount());
+            assertEquals(2000, first.getBestTimes(0, 1).get(0).getDurationMillis());
+        }
+        try (StatisticsStore store = StatisticsStore.open(path)) {
+            assertEquals(3, store.getGameCount());
+            List<GameRecord> best = store.getBestTimes(0, 10);
+            assertEquals(2, best.size());
+            assertEquals(2000, best.get(0).getDurationMillis());
+            assertEquals(3000, best.get(1).getDurationMillis());
+            assertEquals(2 / 3.0, store.getRollingWinRate(3), 1e-9);
+        }
+    }
+
+    @Test
+    void gameClockStartsOnTheFirstMove() throws IOException, InterruptedException {
+        try (StatisticsStore store = StatisticsStore.open(dir.resolve("games.dat"))) {
+            MineField field = new MineField(15, 20, 0, 5L);
+            TerminalView view = new TerminalView(new ByteArrayOutputStream(), 11, 40);
+            MinesweeperController controller = new MinesweeperController(view);
+            view.setController(controller);
+            controller.setStatisticsStore(store);
+            controller.newGame(field);
+            // the player looks at the board for a while before starting
+            Thread.sleep(300);
+            controller.flagButton(0, 0);
+            controller.flagButton(0, 0);
+            for (int row = 0; row < 15 && !field.hasUserLost(); row++) {
+                for (int col = 0; col < 20 && !field.hasUserLost(); col++) {
+                    if (field.isBomb(row, col)) {
+                        controller.buttonPressed(row, col);
+                    }
+                }
+            }
+        }
+        try (StatisticsStore store = StatisticsStore.open(dir.resolve("games.dat"))) {
+            assertEquals(1, store.getGameCount());
+            assertEquals(0, store.getRollingWinRate(1));
+        }
+        try (FileChannel channel = FileChannel.open(dir.resolve("games.dat"))) {
+            ByteBuffer buffer = ByteBuffer.allocate(GameRecord.BYTES);
+            channel.read(buffer, HEADER_BYTES);
+            GameRecord record = GameRecord.read(buffer, 0);
+            assertEquals(3, record.getClicks());
+            assertTrue(record.getDurationMillis() < 300, record.getDurationMillis() + " ms");
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package minesweeper;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TerminalViewTest {
+    private static final char ESC = 27;
+
+    private CountingOutputStream screen;
+    private MinesweeperController controller;
+    private TerminalView view;
+
+    @BeforeEach
+    void setUp() {
+        // 10 board rows and 20 board columns on screen
+        screen = new CountingOutputStream();
+        view = new TerminalView(screen, 11, 40);
+        controller = new MinesweeperController(view);
+        view.setController(controller);
+        controller.newGame(100, 200, 0, 1L);
+    }
+
+    /**
+     * Terminal that keeps what was written and counts the writes.
+     */
+    private static class CountingOutputStream extends ByteArrayOutputStream {
+        private int writes;
+
+        @Override
+        public synchronized void write(int b) {
+            writes++;
+            super.write(b);
+        }
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) {
+            writes++;
+            super.write(b, off, len);
+        }
+
+        void clear() {
+            reset();
+            writes = 0;
+        }
+    }
+
+    /**
+     * Works out which board cells a frame redrew, as {screen row, screen column} counted from 0, by
+     * following the cursor-address escapes and the cells written after them.
+     */
+    private static List<int[]> cellsDrawn(String frame) {
+        List<int[]> cells = new ArrayList<>();
+        int row = 0;
+        int column = 0;
+        int i = 0;
+        while (i < frame.length()) {
+            if (frame.charAt(i) == ESC) {
+                int end = i + 2;
+                while (!Character.isLetter(frame.charAt(end))) {
+                    end++;
+                }
+                if (frame.charAt(end) == 'H') {
+                    String[] position = frame.substring(i + 2, end).split(";");
+                    row = Integer.parseInt(position[0]) - 1;
+                    column = (Integer.parseInt(position[1]) - 1) / 2;
+                }
+                i = end + 1;
+            } else {
+                cells.add(new int[] {row, column});
+                column++;
+                i += 2;
+            }
+        }
+        return cells;
+    }
+
+    private static int cursorMoves(String frame) {
+        return frame.split("\\u001b\\[\\d+;\\d+H", -1).length - 1;
+    }
+
+    @Test
+    void unchangedFrameWritesNothing() throws IOException {
+        view.render();
+        screen.clear();
+        view.render();
+        assertEquals(0, screen.size());
+        assertEquals(0, screen.writes);
+    }
+
+    @Test
+    void cursorMoveRedrawsTwoCellsWithOneCursorAddress() throws IOException {
+        view.play(keys("q"), 0);
+        screen.clear();
+        view.play(keys("dq"), 0);
+        String frame = screen.toString(StandardCharsets.ISO_8859_1);
+        List<int[]> cells = cellsDrawn(frame);
+        assertEquals(2, cells.size());
+        assertArrayEquals(new int[] {0, 0}, cells.get(0));
+        assertArrayEquals(new int[] {0, 1}, cells.get(1));
+        assertEquals(1, cursorMoves(frame));
+        assertEquals(1, screen.writes);
+    }
+
+    @Test
+    void cascadeRedrawsOnlyTheRevealedCellsInOneWrite() throws IOException {
+        MineField field = new MineField(9, 9, 0, 3L);
+        controller.newGame(field);
+        view.render();
+        screen.clear();
+
+        int[] zero = null;
+        for (int row = 0; row < 9 && zero == null; row++) {
+            for (int col = 0; col < 9 && zero == null; col++) {
+                if (!field.isBomb(row, col) && field.getNumberOfAdjacentBombs(row, col) == 0) {
+                    zero = new int[] {row, col};
+                }
+            }
+        }
+        controller.buttonPressed(zero[0], zero[1]);
+        assertFalse(field.hasUserWon());
+        view.render();
+
+        List<int[]> cells = cellsDrawn(screen.toString(StandardCharsets.ISO_8859_1));
+        int revealed = 0;
+        for (int row = 0; row < 9; row++) {
+            for (int col = 0; col < 9; col++) {
+                if (field.isRevealed(row, col)) {
+                    revealed++;
+                }
+            }
+        }
+        assertTrue(revealed > 1);
+        assertEquals(revealed, cells.size());
+        for (int[] cell : cells) {
+            assertTrue(field.isRevealed(cell[0], cell[1]), cell[0] + "," + cell[1] + " was not revealed");
+        }
+        assertEquals(1, screen.writes);
+    }
+
+    private static InputStream keys(String typed) {
+        return new ByteArrayInputStream(typed.getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    @Test
+    void bareEscDoesNotSwallowTheNextKey() throws IOException {
+        // the Esc arrives on its own, with nothing else waiting behind it
+        view.play(new SequenceInputStream(keys("" + ESC), keys("dq")), 0);
+        assertEquals(0, view.getCursorRow());
+        assertEquals(1, view.getCursorColumn());
+    }
+
+    @Test
+    void arrowKeysMove() throws IOException {
+        view.play(keys(ESC + "[C" + ESC + "[C" + ESC + "[B" + ESC + "[Dq"), 0);
+        assertEquals(1, view.getCursorRow());
+        assertEquals(1, view.getCursorColumn());
+    }
+
+    @Test
+    void pageKeysScrollAScreenAndKeepTheCursorInPlace() throws IOException {
+        view.play(keys("sd" + ESC + "[6~Lq"), 0);
+        assertEquals(10, view.getViewTop());
+        assertEquals(20, view.getViewLeft());
+        assertEquals(11, view.getCursorRow());
+        assertEquals(21, view.getCursorColumn());
+
+        view.play(keys(ESC + "[5~Hq"), 0);
+        assertEquals(0, view.getViewTop());
+        assertEquals(0, view.getViewLeft());
+        assertEquals(1, view.getCursorRow());
+        assertEquals(1, view.getCursorColumn());
+    }
+
+    @Test
+    void pageKeysAtTheEdgeMoveTheCursorToIt() throws IOException {
+        view.play(keys("sss" + ESC + "[5~Kq"), 0);
+        assertEquals(0, view.getViewTop());
+        assertEquals(0, view.getCursorRow());
+
+        view.play(keys("JJJJJJJJJJJJ"), 0);
+        assertEquals(90, view.getViewTop());
+        assertEquals(99, view.getCursorRow());
+    }
+}
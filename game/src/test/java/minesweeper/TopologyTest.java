@@ -0,0 +1,109 @@
+package minesweeper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+class TopologyTest {
+
+    /**
+     * The neighbors of a square as the game found them before topologies: a 3x3 loop with bounds checks.
+     */
+    private static List<String> boundsCheckedNeighbors(int height, int width, int row, int col) {
+        List<String> neighbors = new ArrayList<>();
+        for (int x = row - 1; x <= row + 1; x++) {
+            for (int y = col - 1; y <= col + 1; y++) {
+                if (x >= 0 && x < height && y >= 0 && y < width && !(x == row && y == col)) {
+                    neighbors.add(x + "," + y);
+                }
+            }
+        }
+        return neighbors;
+    }
+
+    /**
+     * Every square a step away on a board whose edges join up, each once, not counting the square itself.
+     */
+    private static Set<String> wrappedNeighbors(int height, int width, int row, int col) {
+        Set<String> neighbors = new LinkedHashSet<>();
+        for (int x = row - 1; x <= row + 1; x++) {
+            for (int y = col - 1; y <= col + 1; y++) {
+                int wrappedRow = (x + height) % height;
+                int wrappedCol = (y + width) % width;
+                if (!(wrappedRow == row && wrappedCol == col)) {
+                    neighbors.add(wrappedRow + "," + wrappedCol);
+                }
+            }
+        }
+        return neighbors;
+    }
+
+    private static List<String> neighbors(Topology topology, int row, int col) {
+        List<String> neighbors = new ArrayList<>();
+        for (int k = topology.firstNeighbor(row, col); k < topology.endNeighbor(row, col); k++) {
+            neighbors.add(topology.neighborRow(k) + "," + topology.neighborColumn(k));
+        }
+        return neighbors;
+    }
+
+    @Test
+    void boundedBoardsMatchTheBoundsCheckedLoop() {
+        int[][] shapes = {{1, 1}, {1, 5}, {5, 1}, {2, 2}, {2, 3}, {4, 7}, {15, 20}};
+        for (int[] shape : shapes) {
+            Topology topology = Topology.of(shape[0], shape[1], false);
+            for (int row = 0; row < shape[0]; row++) {
+                for (int col = 0; col < shape[1]; col++) {
+                    assertEquals(boundsCheckedNeighbors(shape[0], shape[1], row, col), neighbors(topology, row, col),
+                            shape[0] + "x" + shape[1] + " at " + row + "," + col);
+                }
+            }
+        }
+    }
+
+    @Test
+    void narrowWrappedBoardsListEachNeighborOnce() {
+        int[][] shapes = {{1, 1}, {1, 2}, {2, 1}, {2, 2}, {3, 1}, {3, 2}, {5, 1}, {5, 2}, {2, 5}, {3, 3}, {6, 7}};
+        for (int[] shape : shapes) {
+            Topology topology = Topology.of(shape[0], shape[1], true);
+            for (int row = 0; row < shape[0]; row++) {
+                for (int col = 0; col < shape[1]; col++) {
+                    List<String> found = neighbors(topology, row, col);
+                    String where = shape[0] + "x" + shape[1] + " at " + row + "," + col;
+                    assertEquals(new ArrayList<>(wrappedNeighbors(shape[0], shape[1], row, col)), found, where);
+                    assertEquals(new LinkedHashSet<>(found).size(), found.size(), where);
+                }
+            }
+        }
+        assertEquals(0, neighbors(Topology.of(1, 1, true), 0, 0).size());
+        assertEquals(1, neighbors(Topology.of(1, 2, true), 0, 0).size());
+        assertEquals(2, neighbors(Topology.of(3, 1, true), 1, 0).size());
+        assertEquals(5, neighbors(Topology.of(3, 2, true), 1, 1).size());
+    }
+
+    @Test
+    void shapesAreSharedButNotMixedUp() {
+        assertSame(Topology.of(15, 20, false), Topology.of(15, 20, false));
+        assertNotSame(Topology.of(15, 20, false), Topology.of(15, 20, true));
+        assertNotSame(Topology.of(2, 3, false), Topology.of(3, 2, false));
+        assertEquals(3, Topology.of(2, 3, false).getWidth());
+        assertEquals(2, Topology.of(3, 2, false).getWidth());
+        assertEquals(true, Topology.of(15, 20, true).isWrapAround());
+    }
+
+    @Test
+    void copiesShareTheirTemplatesTopology() {
+        MineField template = new MineField(15, 20, 0, 7L);
+        assertSame(template.getTopology(), new MineField(template).getTopology());
+        template.hibernate();
+        Topology before = template.getTopology();
+        template.isBomb(0, 0);
+        assertSame(before, template.getTopology());
+    }
+}
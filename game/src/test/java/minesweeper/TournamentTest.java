@@ -0,0 +1,47 @@
+package minesweeper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class TournamentTest {
+    private static final int GAMES = 40;
+
+    private static Map<String, Integer> winsWith(int threads) throws InterruptedException {
+        Tournament tournament = new Tournament(threads);
+        tournament.addPlayer("random", RandomPlayer::new);
+        tournament.addPlayer("single point", SinglePointPlayer::new);
+        tournament.generateBoards(GAMES, 9, 9, 0, 257L);
+        Map<String, Integer> wins = new HashMap<>();
+        for (Tournament.Result result : tournament.run()) {
+            assertEquals(GAMES, result.getGames());
+            wins.put(result.getName(), result.getWins());
+        }
+        return wins;
+    }
+
+    @Test
+    void winsDoNotDependOnTheNumberOfThreads() throws InterruptedException {
+        Map<String, Integer> oneThread = winsWith(1);
+        assertEquals(oneThread, winsWith(3));
+        assertEquals(oneThread, winsWith(8));
+        assertTrue(oneThread.get("single point") >= oneThread.get("random"));
+    }
+
+    @Test
+    void boardsAreOnlyGeneratedOnce() throws InterruptedException {
+        Tournament tournament = new Tournament(4);
+        tournament.addPlayer("random", RandomPlayer::new);
+        tournament.addPlayer("single point", SinglePointPlayer::new);
+        GameMetrics.get().reset();
+        tournament.generateBoards(GAMES, 9, 9, 0, 1L);
+        List<Tournament.Result> results = tournament.run();
+        assertEquals(2, results.size());
+        assertEquals(GAMES, GameMetrics.get().getBoardsGenerated());
+    }
+}
@@ -0,0 +1,51 @@
+package minesweeper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class VisibleBoardTest {
+
+    @Test
+    void hiddenSquaresGiveNothingAway() {
+        MineField field = new MineField(15, 20, 1, 42L);
+        VisibleBoard board = new VisibleBoard(field);
+        for (int row = 0; row < 15; row++) {
+            for (int col = 0; col < 20; col++) {
+                int r = row;
+                int c = col;
+                assertThrows(IllegalStateException.class, () -> board.getNumberOfAdjacentBombs(r, c));
+            }
+        }
+    }
+
+    @Test
+    void revealedSquaresShowTheirNumber() {
+        MineField field = new MineField(15, 20, 1, 42L);
+        VisibleBoard board = new VisibleBoard(field);
+        int revealed = 0;
+        for (int row = 0; row < 15; row++) {
+            for (int col = 0; col < 20; col++) {
+                if (!field.isBomb(row, col)) {
+                    field.setCubicleAsRevealed(row, col);
+                    assertTrue(board.isRevealed(row, col));
+                    assertEquals(field.getNumberOfAdjacentBombs(row, col), board.getNumberOfAdjacentBombs(row, col));
+                    revealed++;
+                }
+            }
+        }
+        assertEquals(15 * 20 - field.getTotalNumberOfBombs(), revealed);
+        assertEquals(field.getTotalNumberOfBombs(), board.getTotalNumberOfBombs());
+    }
+
+    @Test
+    void flagsAreVisibleButDoNotRevealTheNumber() {
+        MineField field = new MineField(15, 20, 1, 42L);
+        VisibleBoard board = new VisibleBoard(field);
+        field.setFlag(3, 4);
+        assertTrue(board.isFlagged(3, 4));
+        assertThrows(IllegalStateException.class, () -> board.getNumberOfAdjacentBombs(3, 4));
+    }
+}